@@ -1,12 +1,11 @@
 package com.effectivemobile.taskmanagementsystem.aop;
 
+import com.effectivemobile.taskmanagementsystem.config.RequestPhaseMetrics;
+import com.effectivemobile.taskmanagementsystem.dao.CommentDao;
+import com.effectivemobile.taskmanagementsystem.dao.TaskDao;
 import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
-import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
-import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
 import com.effectivemobile.taskmanagementsystem.exception.AttemptingAccessOtherUserEntityException;
 import com.effectivemobile.taskmanagementsystem.model.User;
-import com.effectivemobile.taskmanagementsystem.service.CommentService;
-import com.effectivemobile.taskmanagementsystem.service.TaskService;
 import com.effectivemobile.taskmanagementsystem.service.UserService;
 import com.effectivemobile.taskmanagementsystem.util.Role;
 import lombok.RequiredArgsConstructor;
@@ -21,26 +20,29 @@ import org.springframework.stereotype.Component;
 public class CommentAspect {
     private final UserService userService;
 
-    private final CommentService commentService;
+    private final CommentDao commentDao;
 
-    private final TaskService taskService;
+    private final TaskDao taskDao;
+
+    private final RequestPhaseMetrics phaseMetrics;
 
     /**
      * Prevents the user from trying to update another user's comment.
+     * A missing comment is not reported here, the update itself fails with EntityNotFoundException.
      */
     @Before(value = "execution(* com.effectivemobile.taskmanagementsystem.service.CommentServiceImpl" +
             ".update(long,..)) && args(id,..)", argNames = "id")
     public void protectAnotherUserCommentBeforeUpdate(long id) {
-        User currentUser = userService.getCurrentAppUser();
+        phaseMetrics.record(RequestPhaseMetrics.AUTHORIZATION, "comment.update", () -> {
+            User currentUser = userService.getCurrentAppUser();
 
-        if (!currentUser.getRole().equals(Role.ROLE_ADMIN)) {
-            CommentDtoResponse comment = commentService.get(id);
-            if (!currentUser.getId().equals(comment.getAuthorId())) {
+            if (!currentUser.getRole().equals(Role.ROLE_ADMIN)
+                    && !commentDao.existsByIdAndAuthorId(id, currentUser.getId()) && commentDao.existsById(id)) {
                 throw new AttemptingAccessOtherUserEntityException(
-                        "Попытка пользователя с id = %d изменения комментария пользователя с id = %d"
-                                .formatted(currentUser.getId(), comment.getAuthorId()));
+                        "Попытка пользователя с id = %d изменения комментария с id = %d другого пользователя"
+                                .formatted(currentUser.getId(), id));
             }
-        }
+        });
     }
 
     /**
@@ -51,17 +53,21 @@ public class CommentAspect {
         Object[] args = joinPoint.getArgs();
         CommentDtoCreateRequest dto = (CommentDtoCreateRequest) args[0];
 
+        phaseMetrics.record(RequestPhaseMetrics.AUTHORIZATION, "comment.create", () -> checkCommentAuthor(dto));
+    }
+
+    private void checkCommentAuthor(CommentDtoCreateRequest dto) {
         User currentUser = userService.getCurrentAppUser();
         if (!currentUser.getRole().equals(Role.ROLE_ADMIN)) {
-            TaskDtoResponse task = taskService.get(dto.getTaskId());
             if (!currentUser.getId().equals(dto.getAuthorId())) {
                 throw new AttemptingAccessOtherUserEntityException(
                         "Попытка пользователя с id = %d создать комментарий под видом исполнителя с id = %d"
                                 .formatted(currentUser.getId(), dto.getAuthorId()));
-            } else if (!currentUser.getId().equals(task.getImplementorId())) {
+            } else if (!taskDao.existsByIdAndImplementorId(dto.getTaskId(), currentUser.getId())
+                    && taskDao.existsById(dto.getTaskId())) {
                 throw new AttemptingAccessOtherUserEntityException(
-                        "Попытка пользователя с id = %d создать комментарий к заданию исполнителя с id = %d"
-                                .formatted(currentUser.getId(), task.getImplementorId()));
+                        "Попытка пользователя с id = %d создать комментарий к заданию с id = %d другого исполнителя"
+                                .formatted(currentUser.getId(), dto.getTaskId()));
             }
         }
     }
@@ -1,9 +1,10 @@
 package com.effectivemobile.taskmanagementsystem.aop;
 
+import com.effectivemobile.taskmanagementsystem.config.RequestPhaseMetrics;
+import com.effectivemobile.taskmanagementsystem.dao.TaskDao;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
 import com.effectivemobile.taskmanagementsystem.exception.AttemptingAccessOtherUserEntityException;
 import com.effectivemobile.taskmanagementsystem.model.User;
-import com.effectivemobile.taskmanagementsystem.service.TaskService;
 import com.effectivemobile.taskmanagementsystem.service.UserService;
 import com.effectivemobile.taskmanagementsystem.util.Role;
 import lombok.RequiredArgsConstructor;
@@ -20,7 +21,9 @@ import org.springframework.stereotype.Component;
 public class TaskAspect {
     private final UserService userService;
 
-    private final TaskService taskService;
+    private final TaskDao taskDao;
+
+    private final RequestPhaseMetrics phaseMetrics;
 
     /**
      * Prevents the user from attempting to receive another user's task.
@@ -29,36 +32,52 @@ public class TaskAspect {
             pointcut = "execution(* com.effectivemobile.taskmanagementsystem.service.TaskServiceImpl.get(..))",
             returning = "task")
     public void checkTaskImplementorAfterReturn(TaskDtoResponse task) {
-        User currentUser = userService.getCurrentAppUser();
-        if (!currentUser.getRole().equals(Role.ROLE_ADMIN) && !currentUser.getId().equals(task.getImplementorId())) {
-            throw new AttemptingAccessOtherUserEntityException(
-                    "Попытка пользователя с id = %d доступа к заданию исполнителя с id = %d"
-                            .formatted(currentUser.getId(), task.getImplementorId()));
-        }
+        phaseMetrics.record(RequestPhaseMetrics.AUTHORIZATION, "task.get", () -> {
+            User currentUser = userService.getCurrentAppUser();
+            if (!currentUser.getRole().equals(Role.ROLE_ADMIN)
+                    && !currentUser.getId().equals(task.getImplementorId())) {
+                throw new AttemptingAccessOtherUserEntityException(
+                        "Попытка пользователя с id = %d доступа к заданию исполнителя с id = %d"
+                                .formatted(currentUser.getId(), task.getImplementorId()));
+            }
+        });
     }
 
     /**
      * Prevents the user from trying to update another user's task.
+     * A missing task is not reported here, the update itself fails with EntityNotFoundException.
      */
     @Before(value = "execution(* com.effectivemobile.taskmanagementsystem.service.TaskServiceImpl" +
             ".update(long,..)) && args(id,..)", argNames = "id")
     public void protectAnotherUserTaskBeforeUpdate(long id) {
-        User currentUser = userService.getCurrentAppUser();
-        if (!currentUser.getRole().equals(Role.ROLE_ADMIN)) {
-            TaskDtoResponse task = taskService.get(id);
-            if (!currentUser.getId().equals(task.getImplementorId())) {
+        phaseMetrics.record(RequestPhaseMetrics.AUTHORIZATION, "task.update", () -> {
+            User currentUser = userService.getCurrentAppUser();
+            if (!currentUser.getRole().equals(Role.ROLE_ADMIN)
+                    && !taskDao.existsByIdAndImplementorId(id, currentUser.getId()) && taskDao.existsById(id)) {
                 throw new AttemptingAccessOtherUserEntityException(
-                        "Попытка пользователя с id = %d изменения статуса задания исполнителя с id = %d"
-                                .formatted(currentUser.getId(), task.getImplementorId()));
+                        "Попытка пользователя с id = %d изменения статуса задания с id = %d другого исполнителя"
+                                .formatted(currentUser.getId(), id));
             }
-        }
+        });
     }
 
     /**
-     * Adds logic that excludes the possibility of the user receiving other users tasks.
+     * Adds logic that excludes the possibility of the user receiving or bulk updating other users tasks.
+     * Applies to every listing method and to the bulk status update, their first argument is the implementor id.
      */
-    @Around(value = "execution(* com.effectivemobile.taskmanagementsystem.service.TaskServiceImpl.getAll(..))")
+    @Around(value = "execution(* com.effectivemobile.taskmanagementsystem.service.TaskServiceImpl.getAll*(..))" +
+            " || execution(* com.effectivemobile.taskmanagementsystem.service.TaskServiceImpl.updateAllStatus(..))")
     public Object ensureImplementorIdCriteriaIsDeterminedBeforeGetAll(ProceedingJoinPoint joinPoint) throws Throwable {
+        Object[] args = phaseMetrics.record(RequestPhaseMetrics.AUTHORIZATION,
+                "task." + joinPoint.getSignature().getName(), () -> implementorScopedArgs(joinPoint));
+
+        return args == null ? joinPoint.proceed() : joinPoint.proceed(args);
+    }
+
+    /**
+     * @return arguments with the implementor id of the current user or null if the arguments are left as they are
+     */
+    private Object[] implementorScopedArgs(ProceedingJoinPoint joinPoint) {
         User currentUser = userService.getCurrentAppUser();
 
         if (!currentUser.getRole().equals(Role.ROLE_ADMIN)) {
@@ -67,7 +86,7 @@ public class TaskAspect {
             if (implementorId == null) {
                 args[0] = currentUser.getId();
 
-                return joinPoint.proceed(args);
+                return args;
             } else if (!implementorId.equals(currentUser.getId())) {
                 throw new AttemptingAccessOtherUserEntityException(
                         "Попытка пользователя с id = %d доступа к заданиям исполнителя с id = %d"
@@ -75,6 +94,6 @@ public class TaskAspect {
             }
         }
 
-        return joinPoint.proceed();
+        return null;
     }
 }
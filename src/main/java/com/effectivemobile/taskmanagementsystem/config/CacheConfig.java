@@ -0,0 +1,61 @@
+package com.effectivemobile.taskmanagementsystem.config;
+
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.Collection;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(CaffeineCacheProperties.class)
+public class CacheConfig {
+    public static final String COMMENTS_CACHE = "comments";
+
+    public static final String TASK_COUNTS_CACHE = "taskCounts";
+
+    /**
+     * Bounded in-process caches with per-cache size, TTL and statistics (published by actuator as cache.* metrics).
+     * Puts and evictions are deferred until the surrounding transaction commits,
+     * so a rolled back change never evicts or pollutes a cache.
+     * A cache listed in {@code weigh-by-elements} weighs a collection or a slice by its size, any other value as 1,
+     * so caches of lists (e.g. comment threads) are bounded by the number of elements instead of entries.
+     */
+    @Bean
+    public CacheManager cacheManager(CaffeineCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setCacheNames(List.of()); //no caches are created on the fly for unknown names
+        properties.getSpecs().forEach((name, spec) -> {
+            Caffeine<Object, Object> caffeine = Caffeine.from(spec).recordStats();
+            boolean weighed = properties.getWeighByElements().contains(name);
+            if (weighed) {
+                caffeine.weigher((key, value) -> Math.max(size(value), 1));
+            }
+            Cache<Object, Object> cache = caffeine.build();
+            //Caffeine silently ignores a weigher of a cache that is not bounded by maximumWeight
+            if (weighed && !cache.policy().eviction().map(Policy.Eviction::isWeighted).orElse(false)) {
+                throw new IllegalStateException("Cache %s is weighed by elements, but %s has no maximumWeight"
+                        .formatted(name, spec));
+            }
+            cacheManager.registerCustomCache(name, cache);
+        });
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+
+    private static int size(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (value instanceof SliceDtoResponse<?> slice && slice.getContent() != null) {
+            return slice.getContent().size();
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,32 @@
+package com.effectivemobile.taskmanagementsystem.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "application.cache")
+@Getter
+public class CaffeineCacheProperties {
+    /**
+     * Cache name -> Caffeine spec (e.g. {@code maximumSize=10000,expireAfterWrite=10m}),
+     * only the caches listed here are created
+     */
+    private final Map<String, String> specs;
+
+    /**
+     * Names of the caches weighed by the number of elements of a cached collection or slice instead of
+     * by entries, their specs must be bounded by {@code maximumWeight}
+     */
+    private final Set<String> weighByElements;
+
+    @ConstructorBinding
+    public CaffeineCacheProperties(@DefaultValue Map<String, String> specs,
+                                   @DefaultValue Set<String> weighByElements) {
+        this.specs = specs;
+        this.weighByElements = weighByElements;
+    }
+}
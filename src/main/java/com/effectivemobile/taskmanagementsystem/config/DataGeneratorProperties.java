@@ -0,0 +1,57 @@
+package com.effectivemobile.taskmanagementsystem.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "application.data-generator")
+@Getter
+public class DataGeneratorProperties {
+    /**
+     * Seed of the random generator, the same seed and sizes produce the same rows
+     */
+    private final long seed;
+
+    /**
+     * Generated users, 1% of them (at least one) are admins and author all generated tasks
+     */
+    private final int users;
+
+    private final int tasks;
+
+    /**
+     * Exponent of the Zipf distribution of tasks per implementor, 0 - uniform
+     */
+    private final double implementorSkew;
+
+    /**
+     * Pareto tail index of the comments per task, the smaller the heavier the tail (1.5 - 65% of tasks
+     * without comments and a few threads of hundreds)
+     */
+    private final double commentTailIndex;
+
+    private final int maxCommentsPerTask;
+
+    /**
+     * Rows of one multi-row insert statement
+     */
+    private final int rowsPerInsert;
+
+    @ConstructorBinding
+    public DataGeneratorProperties(@DefaultValue("42") long seed,
+                                   @DefaultValue("10000") int users,
+                                   @DefaultValue("1000000") int tasks,
+                                   @DefaultValue("1.1") double implementorSkew,
+                                   @DefaultValue("1.5") double commentTailIndex,
+                                   @DefaultValue("2000") int maxCommentsPerTask,
+                                   @DefaultValue("1000") int rowsPerInsert) {
+        this.seed = seed;
+        this.users = users;
+        this.tasks = tasks;
+        this.implementorSkew = implementorSkew;
+        this.commentTailIndex = commentTailIndex;
+        this.maxCommentsPerTask = maxCommentsPerTask;
+        this.rowsPerInsert = rowsPerInsert;
+    }
+}
@@ -0,0 +1,55 @@
+package com.effectivemobile.taskmanagementsystem.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Timer {@code request.phase} (by phase and operation) of the request phases that are not Spring proxies
+ * and so are not covered by {@code @Timed}: the JWT authentication filter and the authorization checks
+ * of the aspects. Until the registry is bound the phases run without timing
+ */
+@Component
+public class RequestPhaseMetrics implements MeterBinder {
+    public static final String METRIC_NAME = "request.phase";
+
+    public static final String AUTHENTICATION = "authentication";
+
+    public static final String AUTHORIZATION = "authorization";
+
+    private volatile MeterRegistry registry;
+
+    public <T> T record(String phase, String operation, Supplier<T> task) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return task.get();
+        }
+        return timer(meterRegistry, phase, operation).record(task);
+    }
+
+    public void record(String phase, String operation, Runnable task) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            task.run();
+            return;
+        }
+        timer(meterRegistry, phase, operation).record(task);
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    private static Timer timer(MeterRegistry registry, String phase, String operation) {
+        return Timer.builder(METRIC_NAME)
+                .description("Time of a request phase outside of the Spring proxies")
+                .tag("phase", phase)
+                .tag("operation", operation)
+                .register(registry);
+    }
+}
@@ -0,0 +1,35 @@
+package com.effectivemobile.taskmanagementsystem.config;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "application.task")
+@Getter
+public class TaskProperties {
+    /**
+     * Max number of the latest comments embedded in a task response,
+     * the whole thread is paged by {@code /api/v1/comment/task/{taskId}/scroll}
+     */
+    private final int embeddedComments;
+
+    /**
+     * Rows fetched from the database cursor at a time by the task export
+     */
+    private final int exportFetchSize;
+
+    /**
+     * Max number of tasks created by one {@code POST /api/v1/task/batch}
+     */
+    private final int batchMaxSize;
+
+    @ConstructorBinding
+    public TaskProperties(@DefaultValue("20") int embeddedComments,
+                          @DefaultValue("500") int exportFetchSize,
+                          @DefaultValue("1000") int batchMaxSize) {
+        this.embeddedComments = embeddedComments;
+        this.exportFetchSize = exportFetchSize;
+        this.batchMaxSize = batchMaxSize;
+    }
+}
@@ -2,6 +2,7 @@ package com.effectivemobile.taskmanagementsystem.controller;
 
 import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
 import com.effectivemobile.taskmanagementsystem.service.CommentService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,6 +11,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.NotBlank;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import java.util.List;
 
@@ -28,6 +31,11 @@ import java.util.List;
 @SecurityRequirement(name = "Bearer Authentication")
 @Tag(name = "Контроллер комментариев", description = "Контроллер для работы с комментариями")
 public class CommentController {
+    /**
+     * Set by the legacy thread endpoint: true if the thread has more comments than returned
+     */
+    public static final String HAS_MORE_HEADER = "X-Has-More";
+
     private final CommentService commentService;
 
     @PostMapping("api/v1/comment")
@@ -56,13 +64,43 @@ public class CommentController {
         return new ResponseEntity<>(comment, HttpStatus.OK);
     }
 
+    @Deprecated
     @GetMapping("api/v1/comment/task/{taskId}")
-    @Operation(summary = "Получение всех комментариев по id задания")
+    @Operation(summary = "Получение первых 100 комментариев по id задания", deprecated = true,
+            description = "Устарело: возвращает не больше 100 первых комментариев в порядке id, " +
+                    "вся ветка комментариев получается через api/v1/comment/task/{taskId}/scroll. " +
+                    "Заголовок X-Has-More=true и Link с rel=\"next\" сообщают, что ветка обрезана")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "комментарии найдены")
     })
     public ResponseEntity<List<CommentDtoResponse>> getAllByTaskId(@PathVariable("taskId") long taskId) {
-        List<CommentDtoResponse> comments = commentService.getAllByTask(taskId);
+        SliceDtoResponse<CommentDtoResponse> comments = commentService.getAllByTask(taskId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .header(HAS_MORE_HEADER, String.valueOf(comments.isHasNext()));
+        if (comments.isHasNext()) {
+            String next = ServletUriComponentsBuilder.fromCurrentRequestUri()
+                    .path("/scroll")
+                    .queryParam("cursor", comments.getNextCursor())
+                    .queryParam("size", comments.getSize())
+                    .toUriString();
+            response.header(HttpHeaders.LINK, "<" + next + ">; rel=\"next\"");
+        }
+        return response.body(comments.getContent());
+    }
+
+    @GetMapping("api/v1/comment/task/{taskId}/scroll")
+    @Operation(summary = "Получение комментариев задания по курсору",
+            description = "Комментарии в порядке id, для следующей части выборки передается nextCursor " +
+                    "из предыдущего ответа")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "комментарии найдены")
+    })
+    public ResponseEntity<SliceDtoResponse<CommentDtoResponse>> getAllByTaskIdByCursor(
+            @PathVariable("taskId") long taskId,
+            @RequestParam(value = "cursor", required = false) Long cursor,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        SliceDtoResponse<CommentDtoResponse> comments = commentService.getAllByTask(taskId, cursor, size);
         return new ResponseEntity<>(comments, HttpStatus.OK);
     }
 
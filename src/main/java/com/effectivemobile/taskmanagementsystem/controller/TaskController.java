@@ -2,21 +2,32 @@ package com.effectivemobile.taskmanagementsystem.controller;
 
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskStatusBulkUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskBatchItemDtoResponse;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
 import com.effectivemobile.taskmanagementsystem.service.TaskService;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
+import com.effectivemobile.taskmanagementsystem.util.ExportFormat;
 import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
 import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -26,6 +37,9 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -47,16 +61,51 @@ public class TaskController {
     }
 
     @GetMapping("api/v1/task")
-    @Operation(summary = "Получение заданий с пагинацией и фильтрацией по заданным параметрам")
+    @Operation(summary = "Получение заданий с пагинацией и фильтрацией по заданным параметрам",
+            description = "count=EXACT - точное общее количество, APPROXIMATE - оценка по статистике БД " +
+                    "или кэшированное на короткое время количество, NONE - без общего количества (только признак " +
+                    "следующей страницы). q - полнотекстовый поиск по названию и описанию, задания " +
+                    "упорядочиваются по релевантности, сортировка игнорируется")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "задания найдены"),
+            @ApiResponse(responseCode = "403", description = "попытка доступа ко всем заданиям другого исполнителя")
+    })
+    public ResponseEntity<Slice<TaskDtoResponse>> getAll(
+            @RequestParam(value = "implementorId", required = false) Long implementorId,
+            @RequestParam(value = "authorId", required = false) Long authorId,
+            @RequestParam(value = "status", required = false) TaskStatus status,
+            @RequestParam(value = "priority", required = false) TaskPriority priority,
+            @RequestParam(value = "count", defaultValue = "EXACT") CountMode countMode,
+            @RequestParam(value = "q", required = false) String q,
+            @PageableDefault(
+                    size = 20,
+                    page = 0,
+                    sort = {"id"},
+                    direction = Sort.Direction.ASC
+            ) Pageable pageable
+    ) {
+        Slice<TaskDtoResponse> tasks = q == null || q.isBlank()
+                ? taskService.getAll(implementorId, authorId, status, priority, pageable, countMode)
+                : taskService.getAllByText(implementorId, authorId, status, priority, q, pageable, countMode);
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+
+    @GetMapping("api/v1/task/summary")
+    @Operation(summary = "Получение краткого представления заданий с пагинацией и фильтрацией",
+            description = "Без комментариев и описания, количество комментариев добавляется по withCommentCount=true. " +
+                    "Сортировка возможна по id, title, description, status, priority, author.id, implementor.id")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "задания найдены"),
+            @ApiResponse(responseCode = "400", description = "сортировка по недопустимому полю"),
             @ApiResponse(responseCode = "403", description = "попытка доступа ко всем заданиям другого исполнителя")
     })
-    public ResponseEntity<Page<TaskDtoResponse>> getAll(
+    public ResponseEntity<Slice<TaskSummaryDtoResponse>> getAllSummaries(
             @RequestParam(value = "implementorId", required = false) Long implementorId,
             @RequestParam(value = "authorId", required = false) Long authorId,
             @RequestParam(value = "status", required = false) TaskStatus status,
             @RequestParam(value = "priority", required = false) TaskPriority priority,
+            @RequestParam(value = "count", defaultValue = "EXACT") CountMode countMode,
+            @RequestParam(value = "withCommentCount", defaultValue = "false") boolean withCommentCount,
             @PageableDefault(
                     size = 20,
                     page = 0,
@@ -64,29 +113,93 @@ public class TaskController {
                     direction = Sort.Direction.ASC
             ) Pageable pageable
     ) {
-        Page<TaskDtoResponse> tasks = taskService.getAll(implementorId, authorId, status, priority, pageable);
+        Slice<TaskSummaryDtoResponse> tasks = taskService.getAllSummaries(implementorId, authorId, status, priority,
+                pageable, countMode, withCommentCount);
+        return new ResponseEntity<>(tasks, HttpStatus.OK);
+    }
+
+    @GetMapping("api/v1/task/scroll")
+    @Operation(summary = "Получение заданий с фильтрацией по курсору (keyset-пагинация)",
+            description = "Для следующей части выборки передается nextCursor из предыдущего ответа " +
+                    "с теми же фильтрами и сортировкой")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "задания найдены"),
+            @ApiResponse(responseCode = "400", description = "курсор не корректен или выдан для другой сортировки"),
+            @ApiResponse(responseCode = "403", description = "попытка доступа ко всем заданиям другого исполнителя")
+    })
+    public ResponseEntity<SliceDtoResponse<TaskDtoResponse>> getAllByCursor(
+            @RequestParam(value = "implementorId", required = false) Long implementorId,
+            @RequestParam(value = "authorId", required = false) Long authorId,
+            @RequestParam(value = "status", required = false) TaskStatus status,
+            @RequestParam(value = "priority", required = false) TaskPriority priority,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "sortBy", defaultValue = "ID") TaskSortKey sortKey,
+            @RequestParam(value = "direction", defaultValue = "ASC") Sort.Direction direction,
+            @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        SliceDtoResponse<TaskDtoResponse> tasks = taskService.getAllByCursor(implementorId, authorId, status,
+                priority, cursor, sortKey, direction, size);
         return new ResponseEntity<>(tasks, HttpStatus.OK);
     }
 
+    @GetMapping("api/v1/task/export")
+    @Operation(summary = "Потоковая выгрузка всех заданий с фильтрацией в NDJSON или CSV",
+            description = "Задания читаются курсором БД и сразу пишутся в ответ в порядке id, " +
+                    "без пагинации и подсчета общего количества")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "задания выгружены"),
+            @ApiResponse(responseCode = "403", description = "выгрузка доступна только администратору")
+    })
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "implementorId", required = false) Long implementorId,
+            @RequestParam(value = "authorId", required = false) Long authorId,
+            @RequestParam(value = "status", required = false) TaskStatus status,
+            @RequestParam(value = "priority", required = false) TaskPriority priority,
+            @RequestParam(value = "format", defaultValue = "NDJSON") ExportFormat format
+    ) {
+        StreamingResponseBody body = out -> taskService.export(implementorId, authorId, status, priority, format, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(format.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("tasks." + format.getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @PostMapping("api/v1/task")
     @Operation(summary = "Создание нового задания")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "задание создано"),
+            @ApiResponse(responseCode = "400", description = "задание не прошло проверку"),
             @ApiResponse(responseCode = "404", description = "id автора задания или его исполнителя не корректны")
     })
-    public ResponseEntity<TaskDtoResponse> create(@RequestBody TaskDtoCreateRequest dto) {
+    public ResponseEntity<TaskDtoResponse> create(@RequestBody @Valid TaskDtoCreateRequest dto) {
         TaskDtoResponse task = taskService.create(dto);
         return new ResponseEntity<>(task, HttpStatus.CREATED);
     }
 
+    @PostMapping("api/v1/task/batch")
+    @Operation(summary = "Пакетное создание заданий",
+            description = "Пустые и не прошедшие проверку задания, а также задания с несуществующим автором " +
+                    "или исполнителем отклоняются с причиной, остальные создаются")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "результат по каждому заданию в порядке запроса"),
+            @ApiResponse(responseCode = "413", description = "заданий в пакете больше допустимого")
+    })
+    public ResponseEntity<List<TaskBatchItemDtoResponse>> createAll(@RequestBody List<TaskDtoCreateRequest> dtos) {
+        List<TaskBatchItemDtoResponse> results = taskService.createAll(dtos);
+        return new ResponseEntity<>(results, HttpStatus.CREATED);
+    }
+
     @PutMapping("api/v1/task")
     @Operation(summary = "Обновление задания")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "задание изменено"),
-            @ApiResponse(responseCode = "400", description = "id обновляемого задания не может быть null"),
+            @ApiResponse(responseCode = "400", description = "задание не прошло проверку, id не может быть null"),
             @ApiResponse(responseCode = "404", description = "id задания или id автора задания не корректны")
     })
-    public ResponseEntity<TaskDtoResponse> update(@RequestBody TaskDtoUpdateRequest dto) {
+    public ResponseEntity<TaskDtoResponse> update(@RequestBody @Valid TaskDtoUpdateRequest dto) {
         TaskDtoResponse task = taskService.update(dto);
         return new ResponseEntity<>(task, HttpStatus.OK);
     }
@@ -103,6 +216,21 @@ public class TaskController {
         return new ResponseEntity<>(task, HttpStatus.OK);
     }
 
+    @PutMapping("api/v1/task/status/bulk")
+    @Operation(summary = "Массовое изменение статуса заданий",
+            description = "Одним запросом к БД, задания других исполнителей пользователем не изменяются")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "id заданий, статус которых изменен"),
+            @ApiResponse(responseCode = "400", description = "не указаны ни id заданий, ни фильтр"),
+            @ApiResponse(responseCode = "403", description = "фильтр по заданиям другого исполнителя"),
+            @ApiResponse(responseCode = "413", description = "id заданий больше допустимого")
+    })
+    public ResponseEntity<List<Long>> updateAllStatus(@RequestBody @Valid TaskStatusBulkUpdateRequest request) {
+        List<Long> ids = taskService.updateAllStatus(request.getImplementorId(), request.getAuthorId(),
+                request.getCurrentStatus(), request.getPriority(), request.getIds(), request.getStatus());
+        return new ResponseEntity<>(ids, HttpStatus.OK);
+    }
+
     @DeleteMapping("api/v1/task/{id}")
     @Operation(summary = "Удаление задания")
     @ApiResponse(responseCode = "200", description = "задание удалено")
@@ -1,12 +1,39 @@
 package com.effectivemobile.taskmanagementsystem.dao;
 
 import com.effectivemobile.taskmanagementsystem.model.Comment;
-import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CommentDao extends JpaRepository<Comment, Long> {
-    @EntityGraph(attributePaths = {"author", "task"})
-    List<Comment> findAllByTaskId(long taskId);
+    /**
+     * At most {@code limit} latest comments of every task of a page in one query, in id order.
+     * The author and the task stay uninitialized proxies
+     */
+    @Query(value = """
+            select id, text, author_id, task_id
+            from (select c.*, row_number() over (partition by c.task_id order by c.id desc) as rn
+                  from comments c
+                  where c.task_id in (:taskIds)) latest
+            where rn <= :limit
+            order by id""", nativeQuery = true)
+    List<Comment> findLatestByTaskIdIn(@Param("taskIds") Collection<Long> taskIds, @Param("limit") int limit);
+
+    /**
+     * Cursor page of the comments of a task, served by the (task_id, id) index
+     */
+    List<Comment> findAllByTaskIdAndIdGreaterThanOrderById(long taskId, long id, Limit limit);
+
+    @Query("select c.task.id from Comment c where c.id = :id")
+    Optional<Long> findTaskIdById(@Param("id") long id);
+
+    /**
+     * Ownership probe: checks the comment and its author in one indexed query, without loading the comment
+     */
+    boolean existsByIdAndAuthorId(long id, long authorId);
 }
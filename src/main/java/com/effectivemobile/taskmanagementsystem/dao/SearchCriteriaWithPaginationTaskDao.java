@@ -1,12 +1,71 @@
 package com.effectivemobile.taskmanagementsystem.dao;
 
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskExportDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
 import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
 import com.effectivemobile.taskmanagementsystem.util.SearchCriteria;
+import com.effectivemobile.taskmanagementsystem.util.TaskCursor;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface SearchCriteriaWithPaginationTaskDao {
     Page<Task> findAll(List<SearchCriteria> params, Pageable pageable);
+
+    /**
+     * @return {@link Page} for {@link CountMode#EXACT} and {@link CountMode#APPROXIMATE},
+     * {@link Slice} without a total for {@link CountMode#NONE}
+     */
+    Slice<Task> findAll(List<SearchCriteria> params, Pageable pageable, CountMode countMode);
+
+    /**
+     * Full-text search in the title and the description, most relevant first (then by id), the sort of the pageable
+     * is ignored. PostgreSQL matches the words of the query ({@code websearch_to_tsquery} syntax) against
+     * the indexed {@code search_vector} and ranks with {@code ts_rank}, other databases require every word
+     * as a substring and rank title matches first
+     *
+     * @param params equality criteria only ({@code :} operation)
+     */
+    Slice<Task> findAllByText(List<SearchCriteria> params, String text, Pageable pageable, CountMode countMode);
+
+    /**
+     * Scalar projection of the tasks, no entity is loaded into the persistence context
+     *
+     * @param withCommentCount whether to count the comments of every task with a correlated subquery
+     */
+    Slice<TaskSummaryDtoResponse> findAllSummaries(List<SearchCriteria> params, Pageable pageable,
+                                                   CountMode countMode, boolean withCommentCount);
+
+    /**
+     * All tasks of the criteria in id order, read through a forward-only cursor fetching {@code fetchSize} rows
+     * at a time. The rows are scalars, so nothing piles up in the persistence context.
+     * The stream holds the cursor open and must be closed, inside the transaction that opened it
+     */
+    Stream<TaskExportDtoResponse> streamAll(List<SearchCriteria> params, int fetchSize);
+
+    /**
+     * Keyset pagination: the tasks strictly after the cursor in (sort key, id) order, without offset and count
+     *
+     * @param after position of the last task of the previous slice or null for the first slice
+     */
+    Slice<Task> findAll(List<SearchCriteria> params, TaskCursor after, TaskSortKey sortKey,
+                        Sort.Direction direction, int size);
+
+    /**
+     * Set-based status transition: the tasks of the criteria (and of {@code ids} if not null) whose status differs
+     * from the new one are locked by one select in id order and updated by one bulk update with the same
+     * restriction, whatever their number. Rows inserted concurrently between the two statements may be updated
+     * without being reported
+     *
+     * @return ids of the updated tasks in ascending order
+     */
+    List<Long> updateStatus(List<SearchCriteria> params, Collection<Long> ids, TaskStatus status);
 }
@@ -1,73 +1,466 @@
 package com.effectivemobile.taskmanagementsystem.dao;
 
 
+import com.effectivemobile.taskmanagementsystem.config.CacheConfig;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskExportDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
+import com.effectivemobile.taskmanagementsystem.exception.InvalidSortException;
+import com.effectivemobile.taskmanagementsystem.model.Comment;
 import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
 import com.effectivemobile.taskmanagementsystem.util.SearchCriteria;
+import com.effectivemobile.taskmanagementsystem.util.SearchOperation;
+import com.effectivemobile.taskmanagementsystem.util.TaskCursor;
+import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
 import jakarta.persistence.TypedQuery;
 import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.criteria.Subquery;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Repository;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.StringJoiner;
+import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+@Timed(value = "task.dao.query", description = "Time of the task search and update queries")
 @Repository
+@RequiredArgsConstructor
 public class SearchCriteriaWithPaginationTaskDaoImpl implements SearchCriteriaWithPaginationTaskDao {
     @PersistenceContext
     private EntityManager entityManager;
 
+    private final CacheManager cacheManager;
+
     public Page<Task> findAll(List<SearchCriteria> params, Pageable pageable) {
+        TaskSearchPlan plan = TaskSearchPlan.of(params);
+        TypedQuery<Task> typedQuery = plan.createQuery(entityManager, params);
+
+        // Добавление пагинации
+        typedQuery.setFirstResult((int) pageable.getOffset());
+        typedQuery.setMaxResults(pageable.getPageSize());
+
+        List<Task> result = typedQuery.getResultList();
+        long total = plan.createCountQuery(entityManager, params).getSingleResult();
+
+        return new PageImpl<>(result, pageable, total);
+    }
+
+    public Slice<Task> findAll(List<SearchCriteria> params, Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return findAll(params, pageable);
+        }
+        return paginate(TaskSearchPlan.of(params).createQuery(entityManager, params), params, pageable, countMode);
+    }
+
+    @Override
+    public Slice<Task> findAllByText(List<SearchCriteria> params, String text, Pageable pageable,
+                                     CountMode countMode) {
+        Map<String, Object> binds = new HashMap<>();
+        StringJoiner where = new StringJoiner(" and ");
+        String order;
+        if (dialect() instanceof PostgreSQLDialect) {
+            binds.put("text", text);
+            where.add("t.search_vector @@ websearch_to_tsquery('simple', :text)");
+            order = "ts_rank(t.search_vector, websearch_to_tsquery('simple', :text)) desc, t.id";
+        } else {
+            StringJoiner titleMatches = new StringJoiner(" + ", "(", ")").setEmptyValue("0");
+            String[] words = text.toLowerCase(Locale.ROOT).trim().split("\\s+");
+            for (int i = 0; i < words.length; i++) {
+                if (words[i].isEmpty()) {
+                    continue;
+                }
+                String word = ":word" + i;
+                binds.put("word" + i, "%" + escapeLike(words[i]) + "%");
+                where.add("(lower(t.title) like " + word + " or lower(t.description) like " + word + ")");
+                titleMatches.add("case when lower(t.title) like " + word + " then 1 else 0 end");
+            }
+            order = titleMatches + " desc, t.id";
+        }
+        for (int i = 0; i < params.size(); i++) {
+            where.add("t." + textSearchColumn(params.get(i)) + " = :param" + i);
+            binds.put("param" + i, params.get(i).getValue() instanceof Enum<?> value
+                    ? value.name()
+                    : params.get(i).getValue());
+        }
+        String condition = where.length() == 0 ? "1 = 1" : where.toString();
+
+        boolean withoutCount = countMode == CountMode.NONE;
+        Query idQuery = entityManager.createNativeQuery("select t.id from tasks t where " + condition
+                + " order by " + order + " limit :limit offset :offset");
+        binds.forEach(idQuery::setParameter);
+        List<Long> ids = ((List<?>) idQuery
+                .setParameter("limit", pageable.getPageSize() + (withoutCount ? 1 : 0))
+                .setParameter("offset", pageable.getOffset())
+                .getResultList()).stream()
+                .map(id -> ((Number) id).longValue())
+                .collect(Collectors.toCollection(ArrayList::new));
+
+        boolean hasNext = withoutCount && ids.size() > pageable.getPageSize();
+        if (hasNext) {
+            ids.remove(ids.size() - 1);
+        }
+        List<Task> tasks = findAllInOrder(ids);
+        if (withoutCount) {
+            return new SliceImpl<>(tasks, pageable, hasNext);
+        }
+
+        Callable<Long> counter = () -> {
+            Query countQuery = entityManager.createNativeQuery("select count(*) from tasks t where " + condition);
+            binds.forEach(countQuery::setParameter);
+            return ((Number) countQuery.getSingleResult()).longValue();
+        };
+        long total = countMode == CountMode.APPROXIMATE
+                ? countCached("text=" + text + "&" + countCacheKey(params), counter)
+                : call(counter);
+        return new PageImpl<>(tasks, pageable, total);
+    }
+
+    /**
+     * Unlike {@link #findAll(List, Pageable)} the sort of the pageable is applied, offset pages of a projection
+     * have no persistence context to keep them stable otherwise
+     *
+     * @throws InvalidSortException if the sort has a property other than the attributes of {@link TaskSearchAttribute}
+     */
+    public Slice<TaskSummaryDtoResponse> findAllSummaries(List<SearchCriteria> params, Pageable pageable,
+                                                          CountMode countMode, boolean withCommentCount) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Task> query = builder.createQuery(Task.class);
-        Root root = query.from(Task.class);
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
 
-        Predicate predicate = builder.conjunction();
+        List<Selection<?>> selections = new ArrayList<>(List.of(
+                root.get("id"), root.get("title"), root.get("status"), root.get("priority"),
+                root.get("author").get("id"), root.get("implementor").get("id")));
+        if (withCommentCount) {
+            Subquery<Long> commentCount = query.subquery(Long.class);
+            Root<Comment> comment = commentCount.from(Comment.class);
+            commentCount.select(builder.count(comment)).where(builder.equal(comment.get("task"), root));
+            selections.add(commentCount);
+        }
 
         SearchQueryCriteriaConsumer searchConsumer =
-                new SearchQueryCriteriaConsumer(predicate, builder, root);
+                new SearchQueryCriteriaConsumer(builder.conjunction(), builder, root);
         params.forEach(searchConsumer);
-        predicate = searchConsumer.getPredicate();
 
-        query.where(predicate);
+        query.multiselect(selections)
+                .where(searchConsumer.getPredicate())
+                .orderBy(toOrders(pageable.getSort(), builder, root));
 
-        TypedQuery<Task> typedQuery = entityManager.createQuery(query);
+        return paginate(entityManager.createQuery(query), params, pageable, countMode)
+                .map(tuple -> TaskSummaryDtoResponse.builder()
+                        .id(tuple.get(0, Long.class))
+                        .title(tuple.get(1, String.class))
+                        .status(tuple.get(2, TaskStatus.class))
+                        .priority(tuple.get(3, TaskPriority.class))
+                        .authorId(tuple.get(4, Long.class))
+                        .implementorId(tuple.get(5, Long.class))
+                        .commentCount(withCommentCount ? tuple.get(6, Long.class) : null)
+                        .build());
+    }
 
-        // Добавление пагинации
-        typedQuery.setFirstResult((int) pageable.getOffset());
-        typedQuery.setMaxResults(pageable.getPageSize());
+    public Stream<TaskExportDtoResponse> streamAll(List<SearchCriteria> params, int fetchSize) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = builder.createTupleQuery();
+        Root<Task> root = query.from(Task.class);
 
-        List<Task> result = typedQuery.getResultList();
-        long total = countTotal(params);
+        SearchQueryCriteriaConsumer searchConsumer =
+                new SearchQueryCriteriaConsumer(builder.conjunction(), builder, root);
+        params.forEach(searchConsumer);
 
-        return new PageImpl<>(result, pageable, total);
+        query.multiselect(root.get("id"), root.get("title"), root.get("description"), root.get("priority"),
+                        root.get("status"), root.get("author").get("id"), root.get("implementor").get("id"))
+                .where(searchConsumer.getPredicate())
+                .orderBy(builder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_CACHEABLE, false)
+                .getResultStream()
+                .map(tuple -> TaskExportDtoResponse.builder()
+                        .id(tuple.get(0, Long.class))
+                        .title(tuple.get(1, String.class))
+                        .description(tuple.get(2, String.class))
+                        .priority(tuple.get(3, TaskPriority.class))
+                        .status(tuple.get(4, TaskStatus.class))
+                        .authorId(tuple.get(5, Long.class))
+                        .implementorId(tuple.get(6, Long.class))
+                        .build());
+    }
+
+    public List<Long> updateStatus(List<SearchCriteria> params, Collection<Long> ids, TaskStatus status) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> lockQuery = builder.createQuery(Long.class);
+        Root<Task> lockRoot = lockQuery.from(Task.class);
+        lockQuery.select(lockRoot.get("id"))
+                .where(statusTransitionPredicate(builder, lockRoot, params, ids, status))
+                .orderBy(builder.asc(lockRoot.get("id")));
+
+        List<Long> updated = entityManager.createQuery(lockQuery)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+        if (updated.isEmpty()) {
+            return updated;
+        }
+
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+        update.set(root.<TaskStatus>get("status"), status)
+                .where(statusTransitionPredicate(builder, root, params, ids, status));
+        entityManager.createQuery(update).executeUpdate();
+
+        return updated;
     }
 
     /**
-     * Метод для подсчета общего количества записей в запросе
-     *
-     * @param params критерии поиска
-     * @return общее количество записей
+     * Ordered by (key, id) in the direction, both columns are not null, so the seek predicate is a range scan
+     * of the (key, id) indexes of the task-keyset-order changeset
      */
-    private long countTotal(List<SearchCriteria> params) {
+    public Slice<Task> findAll(List<SearchCriteria> params, TaskCursor after, TaskSortKey sortKey,
+                               Sort.Direction direction, int size) {
         CriteriaBuilder builder = entityManager.getCriteriaBuilder();
-        CriteriaQuery<Long> countQuery = builder.createQuery(Long.class);
-        Root r = countQuery.from(Task.class);
+        CriteriaQuery<Task> query = builder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        SearchQueryCriteriaConsumer searchConsumer =
+                new SearchQueryCriteriaConsumer(builder.conjunction(), builder, root);
+        params.forEach(searchConsumer);
+        Predicate predicate = searchConsumer.getPredicate();
+
+        boolean asc = direction.isAscending();
+        Path<Long> id = root.get("id");
+        List<Order> orders = new ArrayList<>();
+
+        if (sortKey == TaskSortKey.ID) {
+            if (after != null) {
+                predicate = builder.and(predicate, asc ? builder.gt(id, after.id()) : builder.lt(id, after.id()));
+            }
+        } else {
+            Path<?> key = root.get(sortKey.getAttribute());
+            orders.add(asc ? builder.asc(key) : builder.desc(key));
+            if (after != null) {
+                predicate = builder.and(predicate, seekPredicate(builder, root, sortKey.getAttribute(),
+                        sortKey.parse(after.value()), after.id(), asc));
+            }
+        }
+        orders.add(asc ? builder.asc(id) : builder.desc(id));
+
+        query.where(predicate).orderBy(orders);
+
+        // Одна лишняя запись показывает наличие следующей части выборки без подсчета общего количества
+        List<Task> result = entityManager.createQuery(query)
+                .setMaxResults(size + 1)
+                .getResultList();
+        boolean hasNext = result.size() > size;
 
-        Predicate predicate = builder.conjunction();
+        return new SliceImpl<>(hasNext ? result.subList(0, size) : result, PageRequest.ofSize(size), hasNext);
+    }
+
+    /**
+     * (key, id) strictly after the cursor: {@code key >= value and (key > value or id > afterId)} ascending,
+     * mirrored descending. The leading bound on the key alone gives the database an index range to start from
+     */
+    private static <K extends Comparable<? super K>> Predicate seekPredicate(CriteriaBuilder builder,
+                                                                             Root<Task> root, String attribute,
+                                                                             Object value, long afterId,
+                                                                             boolean asc) {
+        Path<K> key = root.get(attribute);
+        Path<Long> id = root.get("id");
+        @SuppressWarnings("unchecked")
+        K bound = (K) value;
+        if (asc) {
+            return builder.and(builder.greaterThanOrEqualTo(key, bound),
+                    builder.or(builder.greaterThan(key, bound), builder.gt(id, afterId)));
+        }
+        return builder.and(builder.lessThanOrEqualTo(key, bound),
+                builder.or(builder.lessThan(key, bound), builder.lt(id, afterId)));
+    }
+
+    /**
+     * Page of the query with the total determined by the count mode,
+     * or a slice with one extra row fetched to detect the next page for {@link CountMode#NONE}
+     */
+    private <T> Slice<T> paginate(TypedQuery<T> query, List<SearchCriteria> params, Pageable pageable,
+                                  CountMode countMode) {
+        query.setFirstResult((int) pageable.getOffset());
+
+        if (countMode == CountMode.NONE) {
+            // Одна лишняя запись показывает наличие следующей страницы без подсчета общего количества
+            List<T> result = query.setMaxResults(pageable.getPageSize() + 1).getResultList();
+            boolean hasNext = result.size() > pageable.getPageSize();
+            return new SliceImpl<>(hasNext ? result.subList(0, pageable.getPageSize()) : result, pageable, hasNext);
+        }
+
+        List<T> result = query.setMaxResults(pageable.getPageSize()).getResultList();
+        long total;
+        if (countMode == CountMode.APPROXIMATE) {
+            Long estimate = params.isEmpty() ? estimateTotal() : null;
+            total = estimate != null ? estimate : countTotalCached(params);
+        } else {
+            total = countTotal(params);
+        }
+        return new PageImpl<>(result, pageable, total);
+    }
+
+    /**
+     * Count of the criteria from the short-lived count cache, the key does not depend on the order of the criteria
+     */
+    private long countTotalCached(List<SearchCriteria> params) {
+        return countCached(countCacheKey(params), () -> countTotal(params));
+    }
+
+    private long countCached(String key, Callable<Long> counter) {
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_COUNTS_CACHE);
+        if (cache == null) {
+            return call(counter);
+        }
+        return cache.get(key, counter);
+    }
+
+    private static String countCacheKey(List<SearchCriteria> params) {
+        return params.stream()
+                .map(criteria -> criteria.getAttribute().name() + criteria.getOperation().getSymbol()
+                        + criteria.getValue())
+                .sorted()
+                .collect(Collectors.joining("&"));
+    }
+
+    private static long call(Callable<Long> counter) {
+        try {
+            return counter.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tasks of the ids in the order of the ids
+     */
+    private List<Task> findAllInOrder(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Task> tasks = entityManager.createQuery("select t from Task t where t.id in :ids", Task.class)
+                .setParameter("ids", ids)
+                .getResultStream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+        return ids.stream().map(tasks::get).filter(Objects::nonNull).toList();
+    }
 
+    /**
+     * Column of an equality criterion in the native text search query
+     */
+    private static String textSearchColumn(SearchCriteria criteria) {
+        if (criteria.getOperation() != SearchOperation.EQUAL || criteria.getAttribute().isText()) {
+            throw new IllegalArgumentException("Text search supports equality criteria only, got " + criteria);
+        }
+        return criteria.getAttribute().getColumn();
+    }
+
+    /**
+     * Orders of the client's sort, only the attributes of {@link TaskSearchAttribute} are sortable
+     */
+    private static List<Order> toOrders(Sort sort, CriteriaBuilder builder, Root<Task> root) {
+        List<Order> orders = new ArrayList<>();
+        for (Sort.Order order : sort) {
+            TaskSearchAttribute attribute = TaskSearchAttribute.ofPath(order.getProperty())
+                    .orElseThrow(() -> new InvalidSortException("Tasks cannot be sorted by " + order.getProperty()));
+            Path<?> path = attribute.path(root);
+            orders.add(order.isAscending() ? builder.asc(path) : builder.desc(path));
+        }
+        return orders;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private Dialect dialect() {
+        return entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect();
+    }
+
+    /**
+     * Number of rows of the tasks table from the planner statistics
+     *
+     * @return estimate or null if the database keeps no estimate or the table has not been analyzed yet
+     */
+    private Long estimateTotal() {
+        Dialect dialect = dialect();
+        String sql;
+        if (dialect instanceof PostgreSQLDialect) {
+            sql = "select cast(reltuples as bigint) from pg_class where oid = to_regclass('tasks')";
+        } else if (dialect instanceof H2Dialect) {
+            sql = "select row_count_estimate from information_schema.tables where lower(table_name) = 'tasks'";
+        } else {
+            return null;
+        }
+        List<?> estimate = entityManager.createNativeQuery(sql).getResultList();
+        if (estimate.isEmpty() || estimate.get(0) == null || ((Number) estimate.get(0)).longValue() < 0) {
+            return null;
+        }
+        return ((Number) estimate.get(0)).longValue();
+    }
+
+    private static Predicate statusTransitionPredicate(CriteriaBuilder builder, Root<Task> root,
+                                                       List<SearchCriteria> params, Collection<Long> ids,
+                                                       TaskStatus status) {
         SearchQueryCriteriaConsumer searchConsumer =
-                new SearchQueryCriteriaConsumer(predicate, builder, r);
+                new SearchQueryCriteriaConsumer(builder.notEqual(root.get("status"), status), builder, root);
         params.forEach(searchConsumer);
-        predicate = searchConsumer.getPredicate();
-        countQuery.where(predicate);
-        countQuery.select(builder.count(r));
+        Predicate predicate = searchConsumer.getPredicate();
+        if (ids != null) {
+            predicate = builder.and(predicate, root.get("id").in(ids));
+        }
+        return predicate;
+    }
 
-        return entityManager.createQuery(countQuery).getSingleResult();
+    /**
+     * Метод для подсчета общего количества записей в запросе
+     *
+     * @param params критерии поиска
+     * @return общее количество записей
+     */
+    private long countTotal(List<SearchCriteria> params) {
+        return TaskSearchPlan.of(params).createCountQuery(entityManager, params).getSingleResult();
     }
 }
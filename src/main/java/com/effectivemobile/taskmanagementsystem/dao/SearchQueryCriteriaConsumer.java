@@ -1,8 +1,9 @@
 package com.effectivemobile.taskmanagementsystem.dao;
 
-import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.model.Task;
 import com.effectivemobile.taskmanagementsystem.util.SearchCriteria;
 import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
 import lombok.AllArgsConstructor;
@@ -10,6 +11,10 @@ import lombok.Getter;
 
 import java.util.function.Consumer;
 
+/**
+ * Adds the criteria to the predicate of a criteria query, for the queries the compiled
+ * {@link TaskSearchPlan} does not cover (projections, streams, updates and cursors)
+ */
 @AllArgsConstructor
 public class SearchQueryCriteriaConsumer implements Consumer<SearchCriteria> {
     @Getter
@@ -17,27 +22,20 @@ public class SearchQueryCriteriaConsumer implements Consumer<SearchCriteria> {
 
     private CriteriaBuilder builder;
 
-    private Root root;
+    private Root<Task> root;
 
     @Override
+    @SuppressWarnings({"unchecked", "rawtypes"})
     public void accept(SearchCriteria param) {
-        if (param.getOperation().equalsIgnoreCase(">")) {
-            predicate = builder.and(predicate, builder
-                    .greaterThanOrEqualTo(root.get(param.getKey()), param.getValue().toString()));
-        } else if (param.getOperation().equalsIgnoreCase("<")) {
-            predicate = builder.and(predicate, builder.lessThanOrEqualTo(
-                    root.get(param.getKey()), param.getValue().toString()));
-        } else if (param.getOperation().equalsIgnoreCase(":")) {
-            if (root.get(param.getKey()).getJavaType() == String.class) {
-                predicate = builder.and(predicate, builder.like(
-                        root.get(param.getKey()), "%" + param.getValue() + "%"));
-            } else if (root.get(param.getKey()).getJavaType() == User.class) {
-                predicate = builder.and(predicate, builder.equal(
-                        root.get(param.getKey()).get("id"), param.getValue()));
-            } else {
-                predicate = builder.and(predicate, builder.equal(
-                        root.get(param.getKey()), param.getValue()));
-            }
-        }
+        Path path = param.getAttribute().path(root);
+        Comparable value = (Comparable) param.getValue();
+        Predicate criterion = switch (param.getOperation()) {
+            case EQUAL -> param.getAttribute().isText()
+                    ? builder.like(path, TaskSearchPlan.contains(value))
+                    : builder.equal(path, value);
+            case GREATER_OR_EQUAL -> builder.greaterThanOrEqualTo(path, value);
+            case LESS_OR_EQUAL -> builder.lessThanOrEqualTo(path, value);
+        };
+        predicate = builder.and(predicate, criterion);
     }
 }
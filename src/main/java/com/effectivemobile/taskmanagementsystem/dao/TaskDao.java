@@ -4,4 +4,8 @@ import com.effectivemobile.taskmanagementsystem.model.Task;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 public interface TaskDao extends JpaRepository<Task, Long> {
+    /**
+     * Ownership probe: checks the task and its implementor in one indexed query, without loading the task
+     */
+    boolean existsByIdAndImplementorId(long id, long implementorId);
 }
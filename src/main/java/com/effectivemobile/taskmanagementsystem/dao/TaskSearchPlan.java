@@ -0,0 +1,85 @@
+package com.effectivemobile.taskmanagementsystem.dao;
+
+import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.util.SearchCriteria;
+import com.effectivemobile.taskmanagementsystem.util.SearchOperation;
+import com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * JPQL of the task search for one shape of the criteria (their attributes and operations in order, without
+ * the values). Compiled once per shape and cached, the values are bound as parameters, so the page query
+ * and the count query of a shape are parsed by Hibernate once and then served from its query plan cache,
+ * unlike criteria queries that are interpreted again on every call
+ */
+public final class TaskSearchPlan {
+    private static final Map<List<Shape>, TaskSearchPlan> PLANS = new ConcurrentHashMap<>();
+
+    private final String selectQuery;
+
+    private final String countQuery;
+
+    private TaskSearchPlan(List<Shape> shape) {
+        StringJoiner where = new StringJoiner(" and ", " where ", "").setEmptyValue("");
+        for (int i = 0; i < shape.size(); i++) {
+            where.add(shape.get(i).condition(i));
+        }
+        this.selectQuery = "select t from Task t" + where;
+        this.countQuery = "select count(t) from Task t" + where;
+    }
+
+    /**
+     * @return plan of the shape of the criteria, the same instance for every criteria of that shape
+     */
+    public static TaskSearchPlan of(List<SearchCriteria> params) {
+        List<Shape> shape = params.stream()
+                .map(criteria -> new Shape(criteria.getAttribute(), criteria.getOperation()))
+                .toList();
+        return PLANS.computeIfAbsent(shape, TaskSearchPlan::new);
+    }
+
+    /**
+     * @param params criteria of the shape of the plan
+     */
+    public TypedQuery<Task> createQuery(EntityManager entityManager, List<SearchCriteria> params) {
+        return bind(entityManager.createQuery(selectQuery, Task.class), params);
+    }
+
+    /**
+     * @param params criteria of the shape of the plan
+     */
+    public TypedQuery<Long> createCountQuery(EntityManager entityManager, List<SearchCriteria> params) {
+        return bind(entityManager.createQuery(countQuery, Long.class), params);
+    }
+
+    static String contains(Object value) {
+        return "%" + value + "%";
+    }
+
+    private static <T> TypedQuery<T> bind(TypedQuery<T> query, List<SearchCriteria> params) {
+        for (int i = 0; i < params.size(); i++) {
+            SearchCriteria criteria = params.get(i);
+            boolean substring = criteria.getOperation() == SearchOperation.EQUAL && criteria.getAttribute().isText();
+            query.setParameter("p" + i, substring ? contains(criteria.getValue()) : criteria.getValue());
+        }
+        return query;
+    }
+
+    private record Shape(TaskSearchAttribute attribute, SearchOperation operation) {
+        String condition(int index) {
+            String path = "t." + attribute.getPath();
+            String parameter = ":p" + index;
+            return switch (operation) {
+                case EQUAL -> path + (attribute.isText() ? " like " : " = ") + parameter;
+                case GREATER_OR_EQUAL -> path + " >= " + parameter;
+                case LESS_OR_EQUAL -> path + " <= " + parameter;
+            };
+        }
+    }
+}
@@ -3,10 +3,6 @@ package com.effectivemobile.taskmanagementsystem.dao;
 import com.effectivemobile.taskmanagementsystem.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-import java.util.Optional;
-
-public interface UserDao extends JpaRepository<User, Long> {
-    Optional<User> findByEmail(String email);
-
+public interface UserDao extends JpaRepository<User, Long>, UserDaoCustom {
     boolean existsByEmail(String email);
 }
@@ -0,0 +1,12 @@
+package com.effectivemobile.taskmanagementsystem.dao;
+
+import com.effectivemobile.taskmanagementsystem.model.User;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface UserDaoCustom {
+    Optional<User> findByEmail(String email);
+
+    List<User> findAllWithPlainPasswordForUpdate(long afterId, int limit);
+}
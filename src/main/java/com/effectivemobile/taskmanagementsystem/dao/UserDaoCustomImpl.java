@@ -0,0 +1,54 @@
+package com.effectivemobile.taskmanagementsystem.dao;
+
+import com.effectivemobile.taskmanagementsystem.model.User;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+public class UserDaoCustomImpl implements UserDaoCustom {
+    /**
+     * Lock timeout Hibernate renders as {@code skip locked},
+     * the value of the deprecated {@code LockOptions.SKIP_LOCKED}
+     */
+    private static final int SKIP_LOCKED_TIMEOUT = -2;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Lookup by the natural id: email -> id is resolved through the natural id cache
+     * and the user itself through the second-level cache, without a query when both are warm.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    /**
+     * Next page (keyset by id) of users whose password does not look like a BCrypt hash, locked for update.
+     * Rows locked by another transaction are skipped ({@code for update skip locked}), so several nodes
+     * migrating at once take disjoint pages instead of waiting for each other. H2 has no skip locked
+     * and waits for the lock instead
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<User> findAllWithPlainPasswordForUpdate(long afterId, int limit) {
+        return entityManager.createQuery("select u from User u where u.id > :afterId "
+                        + "and (u.password not like '$2%' or length(u.password) <> 60) order by u.id", User.class)
+                .setParameter("afterId", afterId)
+                .setMaxResults(limit)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .setHint(AvailableSettings.JAKARTA_LOCK_TIMEOUT, SKIP_LOCKED_TIMEOUT)
+                .getResultList();
+    }
+}
@@ -0,0 +1,40 @@
+package com.effectivemobile.taskmanagementsystem.dto.request.task;
+
+import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.Nullable;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "Массовое изменение статуса заданий по списку id и/или фильтру")
+public class TaskStatusBulkUpdateRequest {
+    @NotNull
+    @Schema(description = "Новый статус")
+    private TaskStatus status;
+
+    @Nullable
+    @Schema(description = "Идентификаторы заданий")
+    private List<Long> ids;
+
+    @Nullable
+    @Schema(description = "Фильтр по исполнителю")
+    private Long implementorId;
+
+    @Nullable
+    @Schema(description = "Фильтр по автору")
+    private Long authorId;
+
+    @Nullable
+    @Schema(description = "Фильтр по текущему статусу")
+    private TaskStatus currentStatus;
+
+    @Nullable
+    @Schema(description = "Фильтр по приоритету")
+    private TaskPriority priority;
+}
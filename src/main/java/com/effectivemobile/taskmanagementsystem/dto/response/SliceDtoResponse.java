@@ -0,0 +1,24 @@
+package com.effectivemobile.taskmanagementsystem.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@Schema(description = "Часть выборки для постраничного вывода по курсору")
+public class SliceDtoResponse<T> {
+    @Schema(description = "Элементы выборки")
+    private List<T> content;
+
+    @Schema(description = "Запрошенный размер выборки")
+    private int size;
+
+    @Schema(description = "Есть ли следующая часть выборки")
+    private boolean hasNext;
+
+    @Schema(description = "Курсор для получения следующей части выборки, null если она отсутствует")
+    private String nextCursor;
+}
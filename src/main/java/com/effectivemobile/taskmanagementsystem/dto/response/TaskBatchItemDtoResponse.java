@@ -0,0 +1,19 @@
+package com.effectivemobile.taskmanagementsystem.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Результат создания одного задания из пакета")
+public class TaskBatchItemDtoResponse {
+    @Schema(description = "Позиция задания в запросе, начиная с 0")
+    private int index;
+
+    @Schema(description = "Идентификатор созданного задания, null если задание отклонено")
+    private Long id;
+
+    @Schema(description = "Причина отказа, null если задание создано")
+    private String error;
+}
@@ -0,0 +1,33 @@
+package com.effectivemobile.taskmanagementsystem.dto.response;
+
+import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@Schema(description = "Строка выгрузки заданий")
+public class TaskExportDtoResponse {
+    @Schema(description = "Идентификатор")
+    private Long id;
+
+    @Schema(description = "Заголовок", example = "Заголовок")
+    private String title;
+
+    @Schema(description = "Описание к заданию", example = "Описание")
+    private String description;
+
+    @Schema(description = "Приоритет")
+    private TaskPriority priority;
+
+    @Schema(description = "Статус")
+    private TaskStatus status;
+
+    @Schema(description = "Идентификатор автора")
+    private Long authorId;
+
+    @Schema(description = "Идентификатор исполнителя")
+    private Long implementorId;
+}
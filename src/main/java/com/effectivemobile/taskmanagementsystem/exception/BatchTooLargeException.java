@@ -0,0 +1,7 @@
+package com.effectivemobile.taskmanagementsystem.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.effectivemobile.taskmanagementsystem.exception;
+
+public class BulkFilterRequiredException extends RuntimeException {
+    public BulkFilterRequiredException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,7 @@ package com.effectivemobile.taskmanagementsystem.exception;
 
 import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -33,6 +34,46 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
     }
 
+    /**
+     * Catches malformed pagination cursors or cursors issued for another sort order
+     */
+    @ExceptionHandler(InvalidCursorException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Void> handleInvalidCursorException(InvalidCursorException e) {
+        log.warn(e.getMessage());
+        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Catches sorts by properties that are not sortable
+     */
+    @ExceptionHandler(InvalidSortException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Void> handleInvalidSortException(InvalidSortException e) {
+        log.warn(e.getMessage());
+        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Catches bulk updates without task ids and without a filter
+     */
+    @ExceptionHandler(BulkFilterRequiredException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ResponseEntity<Void> handleBulkFilterRequiredException(BulkFilterRequiredException e) {
+        log.warn(e.getMessage());
+        return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+    }
+
+    /**
+     * Catches bulk requests with more items than allowed
+     */
+    @ExceptionHandler(BatchTooLargeException.class)
+    @ResponseStatus(HttpStatus.PAYLOAD_TOO_LARGE)
+    public ResponseEntity<Void> handleBatchTooLargeException(BatchTooLargeException e) {
+        log.warn(e.getMessage());
+        return new ResponseEntity<>(HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     /**
      * Catches errors when the desired or nested entity is not found.
      */
@@ -43,6 +84,18 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(HttpStatus.NOT_FOUND);
     }
 
+    /**
+     * Catches sign-ins and sign-ups rejected because the password hashing queue is full
+     */
+    @ExceptionHandler(PasswordHashingRejectedException.class)
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ResponseEntity<Void> handlePasswordHashingRejectedException(PasswordHashingRejectedException e) {
+        log.warn(e.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .build();
+    }
+
     /**
      * Catches authentication errors
      */
@@ -0,0 +1,7 @@
+package com.effectivemobile.taskmanagementsystem.exception;
+
+public class PasswordHashingRejectedException extends RuntimeException {
+    public PasswordHashingRejectedException(String message) {
+        super(message);
+    }
+}
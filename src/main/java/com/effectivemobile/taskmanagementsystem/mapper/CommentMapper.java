@@ -2,12 +2,14 @@ package com.effectivemobile.taskmanagementsystem.mapper;
 
 import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
 import com.effectivemobile.taskmanagementsystem.model.Comment;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.stereotype.Component;
 
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Timed(value = "dto.mapping", description = "Time of the entity to DTO conversion")
 @Component
 public class CommentMapper implements DtoMapper<CommentDtoResponse, Comment> {
     public CommentDtoResponse convertToDto(Comment comment) {
@@ -4,20 +4,47 @@ import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
 import com.effectivemobile.taskmanagementsystem.model.Comment;
 import com.effectivemobile.taskmanagementsystem.model.Task;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+@Timed(value = "dto.mapping", description = "Time of the entity to DTO conversion")
 @Component
 @RequiredArgsConstructor
 public class TaskMapper implements DtoMapper<TaskDtoResponse, Task> {
     private final DtoMapper<CommentDtoResponse, Comment> commentMapper;
 
     public TaskDtoResponse convertToDto(Task task) {
+        return convertToDto(task, task.getComments());
+    }
+
+    public List<TaskDtoResponse> convertToDtos(Collection<Task> tasks) {
+        return tasks.stream().map(this::convertToDto).collect(Collectors.toList());
+    }
+
+    /**
+     * Converts a page of tasks with comments loaded separately, the comments collections of the tasks are not touched
+     *
+     * @param comments comments of the tasks of the page
+     */
+    public List<TaskDtoResponse> convertToDtos(List<Task> tasks, Collection<Comment> comments) {
+        Map<Long, List<Comment>> commentsByTask = comments.stream()
+                .collect(Collectors.groupingBy(comment -> comment.getTask().getId()));
+        return tasks.stream()
+                .map(task -> convertToDto(task, commentsByTask.getOrDefault(task.getId(), List.of())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * @param comments comments to embed instead of the comments collection of the task
+     */
+    public TaskDtoResponse convertToDto(Task task, List<Comment> comments) {
         TaskDtoResponse dto = TaskDtoResponse.builder()
                 .id(task.getId())
                 .title(task.getTitle())
@@ -27,16 +54,12 @@ public class TaskMapper implements DtoMapper<TaskDtoResponse, Task> {
                 .priority(task.getPriority())
                 .status(task.getStatus())
                 .build();
-        if (task.getComments() != null) {
-            dto.setComments(commentMapper.convertToDtos(task.getComments()));
+        if (comments != null) {
+            dto.setComments(commentMapper.convertToDtos(comments));
         } else {
             dto.setComments(new ArrayList<>());
         }
 
         return dto;
     }
-
-    public List<TaskDtoResponse> convertToDtos(Collection<Task> tasks) {
-        return tasks.stream().map(this::convertToDto).collect(Collectors.toList());
-    }
 }
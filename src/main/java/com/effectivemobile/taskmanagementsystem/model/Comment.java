@@ -16,6 +16,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @NoArgsConstructor
@@ -25,6 +27,7 @@ import lombok.ToString;
 @EqualsAndHashCode(of = {"id"})
 @Builder
 @Table(name = "comments")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "comment")
 public class Comment {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -83,14 +83,15 @@ public class AuthService {
     public JwtAuthenticationResponse refreshToken(String refreshToken) {
         // Получаем токен из заголовка
         if (StringUtils.startsWith(refreshToken, BEARER_PREFIX)) {
-            // Обрезаем префикс и получаем имя пользователя из токена
+            // Обрезаем префикс, один раз проверяем токен и получаем имя пользователя из его claims
             var jwt = refreshToken.substring(BEARER_PREFIX.length());
-            var username = jwtService.extractUserName(jwt);
+            var claims = jwtService.parseVerifiedClaims(jwt);
+            var username = claims.getSubject();
 
             if (StringUtils.isNotEmpty(username)) {
                 var user = userService.getUserByEmail(username);
 
-                if (jwtService.isTokenValid(jwt, user)) {
+                if (jwtService.isTokenValid(claims, user)) {
                     var accessToken = jwtService.generateToken(user);
                     var newRefreshToken = jwtService.generateRefreshToken(user);
 
@@ -3,6 +3,7 @@ package com.effectivemobile.taskmanagementsystem.security;
 import lombok.Getter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "application.security.jwt")
 @Getter
@@ -13,10 +14,45 @@ public class JwtProperties {
 
     private final Long refreshTokenExpiration;
 
+    /**
+     * Build the principal from the verified access token claims instead of loading the user on every request
+     */
+    private final boolean stateless;
+
+    /**
+     * How long (ms) a user confirmed by the revocation check is trusted in stateless mode, 0 disables the check
+     */
+    private final long revocationCheckTtl;
+
+    /**
+     * Max number of users confirmed by the revocation check kept in memory
+     */
+    private final long revocationCacheSize;
+
+    /**
+     * Max number of verified tokens kept in memory, 0 disables the cache
+     */
+    private final long tokenCacheSize;
+
+    /**
+     * How long (ms) a verified token is kept in memory, never longer than the token's own expiration
+     */
+    private final long tokenCacheTtl;
+
     @ConstructorBinding
-    public JwtProperties(String secretKey, Long expiration, Long refreshTokenExpiration) {
+    public JwtProperties(String secretKey, Long expiration, Long refreshTokenExpiration,
+                         @DefaultValue("false") boolean stateless,
+                         @DefaultValue("60000") long revocationCheckTtl,
+                         @DefaultValue("10000") long revocationCacheSize,
+                         @DefaultValue("10000") long tokenCacheSize,
+                         @DefaultValue("300000") long tokenCacheTtl) {
         this.secretKey = secretKey;
         this.expiration = expiration;
         this.refreshTokenExpiration = refreshTokenExpiration;
+        this.stateless = stateless;
+        this.revocationCheckTtl = revocationCheckTtl;
+        this.revocationCacheSize = revocationCacheSize;
+        this.tokenCacheSize = tokenCacheSize;
+        this.tokenCacheTtl = tokenCacheTtl;
     }
 }
@@ -0,0 +1,97 @@
+package com.effectivemobile.taskmanagementsystem.security;
+
+import com.effectivemobile.taskmanagementsystem.exception.EntityNotFoundException;
+import com.effectivemobile.taskmanagementsystem.exception.UserNotFoundException;
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Short-lived revocation check for principals built from token claims in stateless mode.
+ * The user is confirmed against the database at most once per {@code revocation-check-ttl}:
+ * a deleted (or re-created) user or a changed role revokes all tokens issued before the change.
+ */
+@Component
+public class JwtRevocationChecker {
+    private static final Logger logger = LoggerFactory.getLogger(JwtRevocationChecker.class);
+
+    private final UserDetailsService userService;
+
+    /**
+     * email -> id and authorities of the user as confirmed by the database, trusted until the entry expires
+     */
+    private final Cache<String, ConfirmedUser> confirmed;
+
+    private record ConfirmedUser(Long id, Set<String> authorities) {
+        static ConfirmedUser of(UserDetails user) {
+            return new ConfirmedUser(user instanceof User appUser ? appUser.getId() : null,
+                    AuthorityUtils.authorityListToSet(user.getAuthorities()));
+        }
+
+        /**
+         * A user deleted and re-created under the same email gets a new id, so the old tokens must not match
+         */
+        boolean matches(ConfirmedUser token) {
+            return authorities.equals(token.authorities)
+                    && (id == null || token.id == null || id.equals(token.id));
+        }
+    }
+
+    public JwtRevocationChecker(JwtProperties properties, UserDetailsService userService) {
+        this.userService = userService;
+        this.confirmed = properties.getRevocationCheckTtl() > 0
+                ? Caffeine.newBuilder()
+                .maximumSize(properties.getRevocationCacheSize())
+                .expireAfterWrite(properties.getRevocationCheckTtl(), TimeUnit.MILLISECONDS)
+                .build()
+                : null;
+    }
+
+    /**
+     * The id and the authorities of the token are compared with the confirmed ones on every call, a mismatch
+     * is checked against the database
+     */
+    public boolean isActive(UserDetails tokenUser) {
+        if (confirmed == null) {
+            return true;
+        }
+
+        String email = tokenUser.getUsername();
+        ConfirmedUser token = ConfirmedUser.of(tokenUser);
+        ConfirmedUser actual = confirmed.getIfPresent(email);
+        if (actual == null || !actual.matches(token)) {
+            actual = load(email);
+            if (actual == null) {
+                confirmed.invalidate(email);
+            } else {
+                confirmed.put(email, actual);
+            }
+        }
+
+        if (actual != null && actual.matches(token)) {
+            return true;
+        }
+        logger.warn("Token of user with email = {} is revoked", email);
+        return false;
+    }
+
+    /**
+     * @return the user as stored in the database or null if it is deleted
+     */
+    private ConfirmedUser load(String email) {
+        try {
+            return ConfirmedUser.of(userService.loadUserByUsername(email));
+        } catch (UserNotFoundException | EntityNotFoundException e) {
+            return null;
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package com.effectivemobile.taskmanagementsystem.security;
 
 import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.util.Role;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
@@ -16,25 +18,95 @@ import java.util.Map;
 import java.util.function.Function;
 
 @Service
-@RequiredArgsConstructor
 public class JwtService {
+    public static final String ID_CLAIM = "id";
+
+    public static final String EMAIL_CLAIM = "email";
+
+    public static final String ROLE_CLAIM = "role";
+
     private final JwtProperties properties;
 
+    /**
+     * The key and the parser are immutable and thread-safe, so they are built once instead of on every call
+     */
+    private final SecretKey signingKey;
+
+    private final JwtParser parser;
+
+    public JwtService(JwtProperties properties) {
+        this.properties = properties;
+        this.signingKey = decodeSigningKey(properties.getSecretKey());
+        this.parser = Jwts.parser()
+                .verifyWith(signingKey)
+                .build();
+    }
+
+    /**
+     * @throws IllegalStateException if the secret key is missing, not base64 or shorter than 256 bits
+     */
+    private static SecretKey decodeSigningKey(String secretKey) {
+        if (secretKey == null || secretKey.isBlank()) {
+            throw new IllegalStateException("application.security.jwt.secret-key is misconfigured: "
+                    + "no secret key, set SECRET_JWT_KEY to a base64 encoded key of at least 256 bits");
+        }
+        try {
+            return Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new IllegalStateException("application.security.jwt.secret-key is misconfigured: "
+                    + "expected a base64 encoded key of at least 256 bits (" + e.getMessage() + ")", e);
+        }
+    }
+
+    /**
+     * Verifies the signature and the expiration of the token once, the returned claims are safe to reuse
+     * for all further checks of the same request.
+     *
+     * @throws io.jsonwebtoken.JwtException if the token is malformed, expired or has an invalid signature
+     */
+    public Claims parseVerifiedClaims(String token) {
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
     public String extractUserName(String token) {
         return extractClaim(token, Claims::getSubject);
     }
 
     public <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
+        final Claims claims = parseVerifiedClaims(token);
         return claimsResolver.apply(claims);
     }
 
+    /**
+     * Builds the principal straight from the verified token claims, without a database lookup.
+     *
+     * @return user with id, email and role or null if the token carries no user claims (e.g. refresh token)
+     */
+    public User extractUser(String token) {
+        return extractUser(parseVerifiedClaims(token));
+    }
+
+    public User extractUser(Claims claims) {
+        Long id = claims.get(ID_CLAIM, Long.class);
+        String email = claims.get(EMAIL_CLAIM, String.class);
+        String role = claims.get(ROLE_CLAIM, String.class);
+        if (id == null || email == null || role == null) {
+            return null;
+        }
+
+        return User.builder()
+                .id(id)
+                .email(email)
+                .role(Role.valueOf(role))
+                .build();
+    }
+
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
         if (userDetails instanceof User customUserDetails) {
-            claims.put("id", customUserDetails.getId());
-            claims.put("email", customUserDetails.getEmail());
-            claims.put("role", customUserDetails.getRole());
+            claims.put(ID_CLAIM, customUserDetails.getId());
+            claims.put(EMAIL_CLAIM, customUserDetails.getEmail());
+            claims.put(ROLE_CLAIM, customUserDetails.getRole());
         }
         return buildToken(
                 claims,
@@ -49,7 +121,7 @@ public class JwtService {
                 .subject(userDetails.getUsername())
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + properties.getExpiration()))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
@@ -57,33 +129,23 @@ public class JwtService {
      * Checking that the username matches and the validity period of the token has not expired.
      */
     public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String userName = extractUserName(token);
-        return (userName.equals(userDetails.getUsername()) && !isTokenExpired(token));
-    }
-
-    public boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
-    }
-
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+        return isTokenValid(parseVerifiedClaims(token), userDetails);
     }
 
     /**
-     * Get all the statements from the payload
+     * The same check over already verified claims, without parsing the token again.
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    public boolean isTokenValid(Claims claims, UserDetails userDetails) {
+        final String userName = claims.getSubject();
+        return (userName.equals(userDetails.getUsername()) && !isTokenExpired(claims));
+    }
+
+    public boolean isTokenExpired(String token) {
+        return isTokenExpired(parseVerifiedClaims(token));
     }
 
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(properties.getSecretKey());
-        return Keys.hmacShaKeyFor(keyBytes);
+    private boolean isTokenExpired(Claims claims) {
+        return claims.getExpiration().before(new Date());
     }
 
     public String generateRefreshToken(UserDetails userDetails) {
@@ -101,7 +163,7 @@ public class JwtService {
                 .claims(extraClaims)
                 .issuedAt(new Date(System.currentTimeMillis()))
                 .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 }
@@ -0,0 +1,40 @@
+package com.effectivemobile.taskmanagementsystem.security;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.List;
+
+/**
+ * Password encoder that hashes and verifies on the {@link PasswordHashingExecutor} instead of the calling thread
+ */
+@RequiredArgsConstructor
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+    private final PasswordEncoder delegate;
+
+    private final PasswordHashingExecutor executor;
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute("encode", () -> delegate.encode(rawPassword));
+    }
+
+    /**
+     * Hashes the passwords in parallel on all threads of the {@link PasswordHashingExecutor}
+     *
+     * @return hashes in the order of the passwords
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        return executor.executeAll("encode", rawPasswords, delegate::encode);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute("matches", () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -0,0 +1,174 @@
+package com.effectivemobile.taskmanagementsystem.security;
+
+import com.effectivemobile.taskmanagementsystem.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.NonNull;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Runs the CPU-bound password hashing (BCrypt) on its own pool of {@code threads} with a bounded queue,
+ * so a burst of sign-ins occupies at most {@code threads + queue-capacity} request threads and the rest
+ * of the API keeps its latency. An operation that does not fit into the queue is rejected at once.
+ * Publishes {@code auth.password.hashing.queue}, {@code .active}, {@code .rejected} and the hash time
+ * {@code auth.password.hashing.time} by operation
+ */
+public class PasswordHashingExecutor implements MeterBinder, DisposableBean {
+    private static final String METRIC_PREFIX = "auth.password.hashing";
+
+    /**
+     * How long {@link #executeAll} waits for room in a full queue before it gives up
+     */
+    private static final Duration SUBMIT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final ThreadPoolExecutor executor;
+
+    private volatile MeterRegistry registry;
+
+    private volatile Counter rejected;
+
+    public PasswordHashingExecutor(PasswordHashingProperties properties) {
+        this.executor = new ThreadPoolExecutor(properties.getThreads(), properties.getThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(Math.max(properties.getQueueCapacity(), 1)),
+                new CustomizableThreadFactory("password-hashing-"), new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Runs the operation on the hashing pool and waits for its result
+     *
+     * @param operation name of the operation for the hash time metric
+     * @throws PasswordHashingRejectedException if the queue is full
+     */
+    public <T> T execute(String operation, Supplier<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(() -> timed(operation, task));
+        } catch (RejectedExecutionException e) {
+            if (rejected != null) {
+                rejected.increment();
+            }
+            throw new PasswordHashingRejectedException("Password hashing queue of %d operations is full"
+                    .formatted(executor.getQueue().size()));
+        }
+        return await(future);
+    }
+
+    /**
+     * Runs the operation for every item on all threads of the pool and waits for the results in the order
+     * of the items. Background work: at most {@code threads} items are in flight and a full queue is waited
+     * out instead of rejected, so the queue stays free for sign-ins
+     *
+     * @param operation name of the operation for the hash time metric
+     * @throws PasswordHashingRejectedException if the queue stays full for {@link #SUBMIT_TIMEOUT}
+     * @throws RejectedExecutionException       if the pool is shut down
+     */
+    public <T, R> List<R> executeAll(String operation, List<T> items, Function<T, R> task) {
+        Semaphore slots = new Semaphore(executor.getMaximumPoolSize());
+        List<Future<R>> futures = new ArrayList<>(items.size());
+        try {
+            for (T item : items) {
+                slots.acquire();
+                futures.add(submitWhenQueued(() -> {
+                    try {
+                        return timed(operation, () -> task.apply(item));
+                    } finally {
+                        slots.release();
+                    }
+                }));
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while submitting password hashing", e);
+        } catch (RuntimeException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+        List<R> results = new ArrayList<>(futures.size());
+        for (Future<R> future : futures) {
+            results.add(await(future));
+        }
+        return results;
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".queue", executor, pool -> pool.getQueue().size())
+                .description("Password hashing operations waiting for a thread")
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashing operations in progress")
+                .register(registry);
+        rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Password hashing operations rejected because the queue was full")
+                .register(registry);
+        this.registry = registry;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <R> Future<R> submitWhenQueued(Callable<R> task) throws InterruptedException {
+        long deadline = System.nanoTime() + SUBMIT_TIMEOUT.toNanos();
+        while (true) {
+            try {
+                return executor.submit(task);
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown()) {
+                    throw e;
+                }
+                if (System.nanoTime() - deadline >= 0) {
+                    throw new PasswordHashingRejectedException("Password hashing queue stayed full for %s"
+                            .formatted(SUBMIT_TIMEOUT));
+                }
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+        }
+    }
+
+    private <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    private <T> T timed(String operation, Supplier<T> task) {
+        MeterRegistry meterRegistry = registry;
+        if (meterRegistry == null) {
+            return task.get();
+        }
+        return Timer.builder(METRIC_PREFIX + ".time")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(task);
+    }
+}
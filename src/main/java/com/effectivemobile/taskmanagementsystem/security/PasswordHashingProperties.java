@@ -0,0 +1,34 @@
+package com.effectivemobile.taskmanagementsystem.security;
+
+import lombok.Getter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.ConstructorBinding;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "application.security.password-hashing")
+@Getter
+public class PasswordHashingProperties {
+    /**
+     * Threads hashing and verifying passwords, 0 - one per available processor
+     */
+    private final int threads;
+
+    /**
+     * Max number of hashing operations waiting for a thread, the next one is rejected with 503
+     */
+    private final int queueCapacity;
+
+    /**
+     * Users whose plain text passwords are hashed and committed in one transaction by the startup migration
+     */
+    private final int migrationBatchSize;
+
+    @ConstructorBinding
+    public PasswordHashingProperties(@DefaultValue("0") int threads,
+                                     @DefaultValue("50") int queueCapacity,
+                                     @DefaultValue("100") int migrationBatchSize) {
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        this.migrationBatchSize = migrationBatchSize;
+    }
+}
@@ -1,11 +1,14 @@
 package com.effectivemobile.taskmanagementsystem.security;
 
+import com.effectivemobile.taskmanagementsystem.controller.CommentController;
 import com.effectivemobile.taskmanagementsystem.security.filter.JwtAuthenticationFilter;
 import com.effectivemobile.taskmanagementsystem.util.Role;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.AuthenticationProvider;
@@ -27,7 +30,7 @@ import static org.springframework.security.config.http.SessionCreationPolicy.STA
 
 @Configuration
 @EnableWebSecurity
-@EnableConfigurationProperties(JwtProperties.class)
+@EnableConfigurationProperties({JwtProperties.class, PasswordHashingProperties.class})
 @RequiredArgsConstructor
 public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
@@ -35,7 +38,8 @@ public class SecurityConfig {
     private final UserDetailsService userDetailsService;
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, AuthenticationProvider authenticationProvider)
+            throws Exception {
         secureEndpoints(http);
 
         return http
@@ -45,35 +49,50 @@ public class SecurityConfig {
                     corsConfiguration.setAllowedOriginPatterns(List.of("*"));
                     corsConfiguration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
                     corsConfiguration.setAllowedHeaders(List.of("*"));
+                    corsConfiguration.setExposedHeaders(List.of(HttpHeaders.LINK, CommentController.HAS_MORE_HEADER));
                     corsConfiguration.setAllowCredentials(true);
                     return corsConfiguration;
                 }))
                 .csrf(AbstractHttpConfigurer::disable) //возможность работать с проксированными HTTP-запросам
                 .sessionManagement(manager -> manager
                         .sessionCreationPolicy(STATELESS))
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
                 .build();
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordHashingExecutor passwordHashingExecutor(PasswordHashingProperties properties) {
+        return new PasswordHashingExecutor(properties);
+    }
+
+    @Bean
+    public OffloadingPasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor) {
+        return new OffloadingPasswordEncoder(new BCryptPasswordEncoder(), passwordHashingExecutor);
     }
 
     private void secureEndpoints(HttpSecurity http) throws Exception {
         http.
                 authorizeHttpRequests(authz -> authz
+                        //re-dispatch of an already authorized streamed response (export) and error pages
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/sign-in", "/api/v1/sign-up",
                                 "/api/v1/token/refresh").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/swagger-ui/**", "/api/v1/api-docs/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAuthority(Role.ROLE_ADMIN.name())
 
                         //task
+                        .requestMatchers(HttpMethod.GET, "/api/v1/task/scroll").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/task/summary").authenticated()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/task/export").hasAuthority(Role.ROLE_ADMIN.name())
                         .requestMatchers(HttpMethod.GET, "/api/v1/task/{id}").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/v1/task").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/v1/task/status").authenticated()
+                        .requestMatchers(HttpMethod.PUT, "/api/v1/task/status/bulk").authenticated()
                         .requestMatchers(HttpMethod.PUT, "/api/v1/task").hasAuthority(Role.ROLE_ADMIN.name())
                         .requestMatchers(HttpMethod.POST, "/api/v1/task").hasAuthority(Role.ROLE_ADMIN.name())
+                        .requestMatchers(HttpMethod.POST, "/api/v1/task/batch").hasAuthority(Role.ROLE_ADMIN.name())
                         .requestMatchers(HttpMethod.DELETE, "/api/v1/task/{id}")
                         .hasAuthority(Role.ROLE_ADMIN.name())
 
@@ -92,10 +111,10 @@ public class SecurityConfig {
     }
 
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 }
@@ -0,0 +1,104 @@
+package com.effectivemobile.taskmanagementsystem.security;
+
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded in-memory cache of already verified tokens, so a repeated bearer token costs a hash lookup
+ * instead of a signature verification. Entries are keyed by the SHA-256 digest of the token (the token itself
+ * is never kept as a key) and expire after {@code token-cache-ttl}, but never later than the token's {@code exp}.
+ */
+@Component
+public class VerifiedTokenCache implements MeterBinder {
+    public static final String CACHE_NAME = "jwtVerifiedTokens";
+
+    private final JwtService jwtService;
+
+    private final Cache<String, VerifiedToken> cache;
+
+    /**
+     * @param claims    verified claims of the token
+     * @param principal user built from the claims or null if the token carries no user claims
+     */
+    public record VerifiedToken(Claims claims, User principal) {
+    }
+
+    public VerifiedTokenCache(JwtService jwtService, JwtProperties properties) {
+        this.jwtService = jwtService;
+        this.cache = properties.getTokenCacheSize() > 0
+                ? Caffeine.newBuilder()
+                .maximumSize(properties.getTokenCacheSize())
+                .expireAfter(new TokenExpiry(TimeUnit.MILLISECONDS.toNanos(properties.getTokenCacheTtl())))
+                .recordStats()
+                .build()
+                : null;
+    }
+
+    /**
+     * @throws io.jsonwebtoken.JwtException if the token is not cached and fails the verification
+     */
+    public VerifiedToken getOrVerify(String token) {
+        if (cache == null) {
+            return verify(token);
+        }
+        return cache.get(digest(token), key -> verify(token));
+    }
+
+    @Override
+    public void bindTo(@NonNull MeterRegistry registry) {
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(registry, cache, CACHE_NAME);
+        }
+    }
+
+    private VerifiedToken verify(String token) {
+        Claims claims = jwtService.parseVerifiedClaims(token);
+        return new VerifiedToken(claims, jwtService.extractUser(claims));
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported", e);
+        }
+    }
+
+    private record TokenExpiry(long ttlNanos) implements Expiry<String, VerifiedToken> {
+        @Override
+        public long expireAfterCreate(String key, VerifiedToken value, long currentTime) {
+            Date expiration = value.claims().getExpiration();
+            if (expiration == null) {
+                return ttlNanos;
+            }
+            long untilExp = TimeUnit.MILLISECONDS.toNanos(expiration.getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(ttlNanos, untilExp));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedToken value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,7 +1,13 @@
 package com.effectivemobile.taskmanagementsystem.security.filter;
 
+import com.effectivemobile.taskmanagementsystem.config.RequestPhaseMetrics;
 import com.effectivemobile.taskmanagementsystem.exception.EntityNotFoundException;
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.security.JwtProperties;
+import com.effectivemobile.taskmanagementsystem.security.JwtRevocationChecker;
 import com.effectivemobile.taskmanagementsystem.security.JwtService;
+import com.effectivemobile.taskmanagementsystem.security.VerifiedTokenCache;
+import com.effectivemobile.taskmanagementsystem.security.VerifiedTokenCache.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -37,6 +43,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final UserDetailsService userService;
 
+    private final JwtProperties properties;
+
+    private final JwtRevocationChecker revocationChecker;
+
+    private final VerifiedTokenCache tokenCache;
+
+    private final RequestPhaseMetrics phaseMetrics;
+
     @Override
     protected void doFilterInternal(
             @NonNull HttpServletRequest request,
@@ -50,15 +64,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        // Обрезаем префикс и получаем имя пользователя из токена
+        // Обрезаем префикс и аутентифицируем по токену, время фазы попадает в request.phase
         var jwt = authHeader.substring(BEARER_PREFIX.length());
-        var username = jwtService.extractUserName(jwt);
+        phaseMetrics.record(RequestPhaseMetrics.AUTHENTICATION, "jwt", () -> authenticate(request, jwt));
+        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * Verifies the token (or takes the already verified one from the cache) and authenticates its user
+     */
+    private void authenticate(HttpServletRequest request, String jwt) {
+        var verifiedToken = tokenCache.getOrVerify(jwt);
+        var username = verifiedToken.claims().getSubject();
 
         if (StringUtils.isNotEmpty(username) && SecurityContextHolder.getContext().getAuthentication() == null) {
             try {
-                UserDetails userDetails = userService.loadUserByUsername(username);
+                UserDetails userDetails = resolveUser(verifiedToken, username);
 
-                if (jwtService.isTokenValid(jwt, userDetails)) {
+                if (userDetails != null && jwtService.isTokenValid(verifiedToken.claims(), userDetails)) {
                     authenticateUser(request, userDetails);
                     logger.info("Successful authentication with valid token by email  = {}", userDetails.getUsername());
                 }
@@ -66,7 +89,22 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
             }
         }
-        filterChain.doFilter(request, response);
+    }
+
+    /**
+     * In stateless mode the principal is built from the token claims, otherwise it is loaded from the database.
+     * Tokens without user claims (e.g. refresh tokens) always fall back to the database.
+     *
+     * @return user details or null if the stateless token has been revoked
+     */
+    private UserDetails resolveUser(VerifiedToken verifiedToken, String username) {
+        if (properties.isStateless()) {
+            User tokenUser = verifiedToken.principal();
+            if (tokenUser != null) {
+                return revocationChecker.isActive(tokenUser) ? tokenUser : null;
+            }
+        }
+        return userService.loadUserByUsername(username);
     }
 
     private static void authenticateUser(HttpServletRequest request, UserDetails userDetails) {
@@ -2,13 +2,18 @@ package com.effectivemobile.taskmanagementsystem.service;
 
 import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
-
-import java.util.List;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
 
 public interface CommentService {
     CommentDtoResponse get(long id);
 
-    List<CommentDtoResponse> getAllByTask(long id);
+    /**
+     * @deprecated bounded to the first slice of the thread, use {@link #getAllByTask(long, Long, int)}
+     */
+    @Deprecated
+    SliceDtoResponse<CommentDtoResponse> getAllByTask(long id);
+
+    SliceDtoResponse<CommentDtoResponse> getAllByTask(long taskId, Long after, int size);
 
     CommentDtoResponse create(CommentDtoCreateRequest dto);
 
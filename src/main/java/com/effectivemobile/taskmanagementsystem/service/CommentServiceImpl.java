@@ -1,24 +1,33 @@
 package com.effectivemobile.taskmanagementsystem.service;
 
+import com.effectivemobile.taskmanagementsystem.config.CacheConfig;
 import com.effectivemobile.taskmanagementsystem.dao.CommentDao;
 import com.effectivemobile.taskmanagementsystem.dao.TaskDao;
 import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
 import com.effectivemobile.taskmanagementsystem.exception.EntityNotFoundException;
 import com.effectivemobile.taskmanagementsystem.mapper.DtoMapper;
 import com.effectivemobile.taskmanagementsystem.model.Comment;
 import com.effectivemobile.taskmanagementsystem.model.Task;
 import com.effectivemobile.taskmanagementsystem.model.User;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Service
 @RequiredArgsConstructor
 public class CommentServiceImpl implements CommentService {
+    public static final int MAX_SLICE_SIZE = 100;
+
     private final CommentDao commentDao;
 
     private final DtoMapper<CommentDtoResponse, Comment> commentMapper;
@@ -27,6 +36,8 @@ public class CommentServiceImpl implements CommentService {
 
     private final TaskDao taskDao;
 
+    private final CacheManager cacheManager;
+
     @Override
     @Transactional(readOnly = true)
     public CommentDtoResponse get(long id) {
@@ -35,15 +46,49 @@ public class CommentServiceImpl implements CommentService {
         return commentMapper.convertToDto(comment);
     }
 
+    /**
+     * First slice of {@link #MAX_SLICE_SIZE} comments of the task in id order, the rest of the thread is only
+     * available through {@link #getAllByTask(long, Long, int)} starting from the cursor of this slice
+     *
+     * @deprecated the whole thread is no longer returned, use the cursor pagination
+     */
+    @Deprecated
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(CacheConfig.COMMENTS_CACHE)
+    public SliceDtoResponse<CommentDtoResponse> getAllByTask(long taskId) {
+        return getAllByTask(taskId, null, MAX_SLICE_SIZE);
+    }
+
+    /**
+     * Cursor pagination over the comments of a task in id order, the cursor is the id of the last returned comment
+     *
+     * @param after id of the last comment of the previous slice or null for the first slice
+     */
     @Override
     @Transactional(readOnly = true)
-    @Cacheable("comments")
-    public List<CommentDtoResponse> getAllByTask(long taskId) {
-        return commentMapper.convertToDtos(commentDao.findAllByTaskId(taskId));
+    public SliceDtoResponse<CommentDtoResponse> getAllByTask(long taskId, Long after, int size) {
+        int sliceSize = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+
+        // Одна лишняя запись показывает наличие следующей части выборки
+        List<Comment> comments = commentDao.findAllByTaskIdAndIdGreaterThanOrderById(taskId,
+                after == null ? 0L : after, Limit.of(sliceSize + 1));
+        boolean hasNext = comments.size() > sliceSize;
+        if (hasNext) {
+            comments = comments.subList(0, sliceSize);
+        }
+
+        return SliceDtoResponse.<CommentDtoResponse>builder()
+                .content(commentMapper.convertToDtos(comments))
+                .size(sliceSize)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? String.valueOf(comments.get(sliceSize - 1).getId()) : null)
+                .build();
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_CACHE, key = "#dto.taskId")
     public CommentDtoResponse create(CommentDtoCreateRequest dto) {
         Task task = taskDao.findById(dto.getTaskId())
                 .orElseThrow(() -> new EntityNotFoundException("Task with id = %d is not found"
@@ -61,6 +106,7 @@ public class CommentServiceImpl implements CommentService {
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_CACHE, key = "#result.taskId")
     public CommentDtoResponse update(long id, String text) {
         Comment comment = commentDao.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Comment with id = %d is not found".formatted(id)));
@@ -68,9 +114,19 @@ public class CommentServiceImpl implements CommentService {
         return commentMapper.convertToDto(commentDao.save(comment));
     }
 
+    /**
+     * The task of the comment is looked up before the deletion, the thread is evicted after the commit
+     * (the cache manager is transaction-aware), so a concurrent read cannot cache the deleted comment again
+     */
     @Override
     @Transactional
     public void deleteById(long id) {
+        Optional<Long> taskId = commentDao.findTaskIdById(id);
         commentDao.deleteById(id);
+
+        Cache comments = cacheManager.getCache(CacheConfig.COMMENTS_CACHE);
+        if (comments != null) {
+            taskId.ifPresent(comments::evict);
+        }
     }
 }
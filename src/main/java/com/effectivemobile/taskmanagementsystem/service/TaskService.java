@@ -2,23 +2,53 @@ package com.effectivemobile.taskmanagementsystem.service;
 
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskBatchItemDtoResponse;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
+import com.effectivemobile.taskmanagementsystem.util.ExportFormat;
 import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
 import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
 
 public interface TaskService {
     TaskDtoResponse get(long id);
 
-    Page<TaskDtoResponse> getAll(Long implementorId, Long authorId, TaskStatus status,
-                                 TaskPriority priority, Pageable pageable);
+    Slice<TaskDtoResponse> getAll(Long implementorId, Long authorId, TaskStatus status,
+                                  TaskPriority priority, Pageable pageable, CountMode countMode);
+
+    Slice<TaskDtoResponse> getAllByText(Long implementorId, Long authorId, TaskStatus status, TaskPriority priority,
+                                        String text, Pageable pageable, CountMode countMode);
+
+    Slice<TaskSummaryDtoResponse> getAllSummaries(Long implementorId, Long authorId, TaskStatus status,
+                                                  TaskPriority priority, Pageable pageable, CountMode countMode,
+                                                  boolean withCommentCount);
+
+    SliceDtoResponse<TaskDtoResponse> getAllByCursor(Long implementorId, Long authorId, TaskStatus status,
+                                                     TaskPriority priority, String cursor, TaskSortKey sortKey,
+                                                     Sort.Direction direction, int size);
+
+    void export(Long implementorId, Long authorId, TaskStatus status, TaskPriority priority,
+                ExportFormat format, OutputStream out) throws IOException;
 
     TaskDtoResponse create(TaskDtoCreateRequest dto);
 
+    List<TaskBatchItemDtoResponse> createAll(List<TaskDtoCreateRequest> dtos);
+
     TaskDtoResponse update(TaskDtoUpdateRequest dto);
 
     TaskDtoResponse update(long id, TaskStatus status);
 
+    List<Long> updateAllStatus(Long implementorId, Long authorId, TaskStatus currentStatus, TaskPriority priority,
+                               List<Long> ids, TaskStatus status);
+
     void deleteById(long id);
 }
@@ -1,62 +1,231 @@
 package com.effectivemobile.taskmanagementsystem.service;
 
+import com.effectivemobile.taskmanagementsystem.config.CacheConfig;
+import com.effectivemobile.taskmanagementsystem.config.TaskProperties;
+import com.effectivemobile.taskmanagementsystem.dao.CommentDao;
 import com.effectivemobile.taskmanagementsystem.dao.SearchCriteriaWithPaginationTaskDao;
 import com.effectivemobile.taskmanagementsystem.dao.TaskDao;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskBatchItemDtoResponse;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskExportDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
+import com.effectivemobile.taskmanagementsystem.exception.BatchTooLargeException;
+import com.effectivemobile.taskmanagementsystem.exception.BulkFilterRequiredException;
 import com.effectivemobile.taskmanagementsystem.exception.EntityNotFoundException;
-import com.effectivemobile.taskmanagementsystem.mapper.DtoMapper;
+import com.effectivemobile.taskmanagementsystem.exception.InvalidCursorException;
+import com.effectivemobile.taskmanagementsystem.mapper.TaskMapper;
+import com.effectivemobile.taskmanagementsystem.model.Comment;
 import com.effectivemobile.taskmanagementsystem.model.Task;
 import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
+import com.effectivemobile.taskmanagementsystem.util.ExportFormat;
 import com.effectivemobile.taskmanagementsystem.util.SearchCriteria;
+import com.effectivemobile.taskmanagementsystem.util.SearchOperation;
+import com.effectivemobile.taskmanagementsystem.util.TaskCursor;
 import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
 import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
-@RequiredArgsConstructor
+@EnableConfigurationProperties(TaskProperties.class)
 public class TaskServiceImpl implements TaskService {
+    public static final int MAX_SLICE_SIZE = 100;
+
+    private static final String CSV_HEADER = "id,title,description,priority,status,authorId,implementorId\n";
+
     private final TaskDao taskDao;
 
-    private final DtoMapper<TaskDtoResponse, Task> taskMapper;
+    private final TaskMapper taskMapper;
+
+    private final CommentDao commentDao;
+
+    private final TaskProperties properties;
 
     private final UserService userService;
 
     private final SearchCriteriaWithPaginationTaskDao criteriaDao;
 
+    /**
+     * Writer of the NDJSON export lines with the settings of the application's object mapper
+     */
+    private final ObjectWriter ndjsonWriter;
+
+    private final Validator validator;
+
+    public TaskServiceImpl(TaskDao taskDao, TaskMapper taskMapper, CommentDao commentDao, TaskProperties properties,
+                           UserService userService, SearchCriteriaWithPaginationTaskDao criteriaDao,
+                           ObjectMapper mapper, Validator validator) {
+        this.taskDao = taskDao;
+        this.taskMapper = taskMapper;
+        this.commentDao = commentDao;
+        this.properties = properties;
+        this.userService = userService;
+        this.criteriaDao = criteriaDao;
+        this.ndjsonWriter = mapper.writerFor(TaskExportDtoResponse.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.validator = validator;
+    }
+
     @Override
     @Transactional(readOnly = true)
     public TaskDtoResponse get(long id) {
         Task task = taskDao.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task with id = %d is not found".formatted(id)));
-        TaskDtoResponse dto = taskMapper.convertToDto(task);
+        TaskDtoResponse dto = taskMapper.convertToDto(task, latestComments(List.of(id)));
         return dto;
     }
 
+    /**
+     * @param countMode how the total of the page is determined, {@link CountMode#NONE} returns a slice without it
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaskDtoResponse> getAll(Long implementorId, Long authorId,
+                                         TaskStatus status, TaskPriority priority,
+                                         Pageable pageable, CountMode countMode) {
+        List<SearchCriteria> criteria = collectSearchCriteriaParams(implementorId, authorId, status, priority);
+
+        Slice<Task> tasks = criteriaDao.findAll(criteria, pageable, countMode);
+        List<TaskDtoResponse> content = convertPage(tasks.getContent());
+
+        return tasks instanceof Page<Task> page
+                ? new PageImpl<>(content, pageable, page.getTotalElements())
+                : new SliceImpl<>(content, pageable, tasks.hasNext());
+    }
+
+    /**
+     * Full-text search with the same filters as {@link #getAll}, ordered by relevance instead of the sort
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Slice<TaskDtoResponse> getAllByText(Long implementorId, Long authorId,
+                                               TaskStatus status, TaskPriority priority, String text,
+                                               Pageable pageable, CountMode countMode) {
+        List<SearchCriteria> criteria = collectSearchCriteriaParams(implementorId, authorId, status, priority);
+
+        Slice<Task> tasks = criteriaDao.findAllByText(criteria, text, pageable, countMode);
+        List<TaskDtoResponse> content = convertPage(tasks.getContent());
+
+        return tasks instanceof Page<Task> page
+                ? new PageImpl<>(content, pageable, page.getTotalElements())
+                : new SliceImpl<>(content, pageable, tasks.hasNext());
+    }
+
+    /**
+     * Listing without entities: the summaries are selected as scalars, so neither the persistence context
+     * nor the comments are involved
+     */
     @Override
     @Transactional(readOnly = true)
-    public Page<TaskDtoResponse> getAll(Long implementorId, Long authorId,
-                                        TaskStatus status, TaskPriority priority,
-                                        Pageable pageable) {
+    public Slice<TaskSummaryDtoResponse> getAllSummaries(Long implementorId, Long authorId,
+                                                         TaskStatus status, TaskPriority priority,
+                                                         Pageable pageable, CountMode countMode,
+                                                         boolean withCommentCount) {
         List<SearchCriteria> criteria = collectSearchCriteriaParams(implementorId, authorId, status, priority);
 
-        Page<Task> tasks = criteriaDao.findAll(criteria, pageable);
+        return criteriaDao.findAllSummaries(criteria, pageable, countMode, withCommentCount);
+    }
 
-        return new PageImpl<>(
-                tasks.getContent().stream().map(taskMapper::convertToDto).collect(Collectors.toList()),
-                pageable,
-                tasks.getTotalElements()
-        );
+    /**
+     * Keyset pagination: every slice costs the same regardless of its depth
+     *
+     * @param cursor cursor from the previous slice or null for the first slice
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public SliceDtoResponse<TaskDtoResponse> getAllByCursor(Long implementorId, Long authorId,
+                                                            TaskStatus status, TaskPriority priority,
+                                                            String cursor, TaskSortKey sortKey,
+                                                            Sort.Direction direction, int size) {
+        TaskCursor after = null;
+        if (cursor != null) {
+            after = TaskCursor.decode(cursor);
+            if (after.sortKey() != sortKey || after.direction() != direction) {
+                throw new InvalidCursorException("Cursor %s was issued for another sort order".formatted(cursor));
+            }
+        }
+        int sliceSize = Math.min(Math.max(size, 1), MAX_SLICE_SIZE);
+        List<SearchCriteria> criteria = collectSearchCriteriaParams(implementorId, authorId, status, priority);
+
+        Slice<Task> tasks = criteriaDao.findAll(criteria, after, sortKey, direction, sliceSize);
+
+        String nextCursor = null;
+        if (tasks.hasNext()) {
+            Task last = tasks.getContent().get(tasks.getNumberOfElements() - 1);
+            nextCursor = new TaskCursor(sortKey, direction, sortKey.extract(last), last.getId()).encode();
+        }
+        return SliceDtoResponse.<TaskDtoResponse>builder()
+                .content(convertPage(tasks.getContent()))
+                .size(sliceSize)
+                .hasNext(tasks.hasNext())
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * Writes the tasks row by row while they are read from the database cursor, so memory does not depend
+     * on the number of exported tasks. The stream is not closed
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void export(Long implementorId, Long authorId, TaskStatus status, TaskPriority priority,
+                       ExportFormat format, OutputStream out) throws IOException {
+        List<SearchCriteria> criteria = collectSearchCriteriaParams(implementorId, authorId, status, priority);
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        if (format == ExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+        }
+
+        try (Stream<TaskExportDtoResponse> tasks = criteriaDao.streamAll(criteria, properties.getExportFetchSize())) {
+            Iterator<TaskExportDtoResponse> iterator = tasks.iterator();
+            while (iterator.hasNext()) {
+                TaskExportDtoResponse task = iterator.next();
+                if (format == ExportFormat.CSV) {
+                    writer.write(String.join(",", csv(task.getId()), csv(task.getTitle()), csv(task.getDescription()),
+                            csv(task.getPriority()), csv(task.getStatus()), csv(task.getAuthorId()),
+                            csv(task.getImplementorId())));
+                } else {
+                    writer.write(ndjsonWriter.writeValueAsString(task));
+                }
+                writer.write('\n');
+            }
+        }
+        writer.flush();
     }
 
     @Override
@@ -76,6 +245,95 @@ public class TaskServiceImpl implements TaskService {
         return taskMapper.convertToDto(taskDao.save(task));
     }
 
+    /**
+     * Creates the tasks in one transaction: the authors and implementors of all items are loaded by one query
+     * and the rows are inserted in JDBC batches at flush. Ids come from the pooled task sequence on persist,
+     * so they are known before the flush. A null item, an item violating the constraints of
+     * {@link TaskDtoCreateRequest} or with an unknown author or implementor is rejected and reported
+     * without failing the others
+     *
+     * @return result of every item in the request order
+     */
+    @Override
+    @Transactional
+    public List<TaskBatchItemDtoResponse> createAll(List<TaskDtoCreateRequest> dtos) {
+        if (dtos.size() > properties.getBatchMaxSize()) {
+            throw new BatchTooLargeException("Batch of %d tasks exceeds the limit of %d"
+                    .formatted(dtos.size(), properties.getBatchMaxSize()));
+        }
+        List<String> violations = dtos.stream().map(this::violations).toList();
+        Set<Long> userIds = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            if (violations.get(i) == null) {
+                userIds.add(dtos.get(i).getAuthorId());
+                userIds.add(dtos.get(i).getImplementorId());
+            }
+        }
+        Map<Long, User> users = userService.getAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        List<TaskBatchItemDtoResponse> results = new ArrayList<>(dtos.size());
+        List<Task> tasks = new ArrayList<>(dtos.size());
+        for (int i = 0; i < dtos.size(); i++) {
+            TaskDtoCreateRequest dto = dtos.get(i);
+            if (violations.get(i) != null) {
+                results.add(TaskBatchItemDtoResponse.builder()
+                        .index(i)
+                        .error(violations.get(i))
+                        .build());
+                continue;
+            }
+            User author = users.get(dto.getAuthorId());
+            User implementor = users.get(dto.getImplementorId());
+            if (author == null || implementor == null) {
+                Long missingId = author == null ? dto.getAuthorId() : dto.getImplementorId();
+                results.add(TaskBatchItemDtoResponse.builder()
+                        .index(i)
+                        .error("User with id = %s is not found".formatted(missingId))
+                        .build());
+                continue;
+            }
+            Task task = Task.builder()
+                    .title(dto.getTitle())
+                    .description(dto.getDescription())
+                    .priority(dto.getPriority())
+                    .status(dto.getStatus())
+                    .author(author)
+                    .implementor(implementor)
+                    .build();
+            tasks.add(task);
+            results.add(TaskBatchItemDtoResponse.builder()
+                    .index(i)
+                    .build());
+        }
+
+        taskDao.saveAll(tasks);
+        Iterator<Task> saved = tasks.iterator();
+        for (TaskBatchItemDtoResponse result : results) {
+            if (result.getError() == null) {
+                result.setId(saved.next().getId());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * @return violated constraints of the item as "field: message" or null if the item is valid
+     */
+    private String violations(TaskDtoCreateRequest dto) {
+        if (dto == null) {
+            return "Task is null";
+        }
+        Set<ConstraintViolation<TaskDtoCreateRequest>> violations = validator.validate(dto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
     /**
      * Update Task except inner author and comments
      *
@@ -96,7 +354,7 @@ public class TaskServiceImpl implements TaskService {
         task.setStatus(dto.getStatus());
         task.setImplementor(implementor);
 
-        return taskMapper.convertToDto(taskDao.save(task));
+        return taskMapper.convertToDto(taskDao.save(task), latestComments(List.of(dto.getId())));
     }
 
     @Override
@@ -105,29 +363,90 @@ public class TaskServiceImpl implements TaskService {
         Task task = taskDao.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Task with id = %d is not found".formatted(id)));
         task.setStatus(status);
-        return taskMapper.convertToDto(taskDao.save(task));
+        return taskMapper.convertToDto(taskDao.save(task), latestComments(List.of(id)));
+    }
+
+    /**
+     * Moves the tasks to the status with one set-based update instead of a load and save per task.
+     * For a non-admin the implementor filter is always the current user (see TaskAspect), so the tasks
+     * of other implementors are not updated rather than refused
+     *
+     * @param ids tasks to update or null to update all tasks of the filter
+     * @return ids of the tasks whose status was changed, the tasks already in the status are skipped
+     */
+    @Override
+    @Transactional
+    public List<Long> updateAllStatus(Long implementorId, Long authorId, TaskStatus currentStatus,
+                                      TaskPriority priority, List<Long> ids, TaskStatus status) {
+        List<SearchCriteria> criteria = collectSearchCriteriaParams(implementorId, authorId, currentStatus, priority);
+        if (ids == null && criteria.isEmpty()) {
+            throw new BulkFilterRequiredException("Bulk status update needs task ids or a filter");
+        }
+        if (ids != null && ids.size() > properties.getBatchMaxSize()) {
+            throw new BatchTooLargeException("Batch of %d task ids exceeds the limit of %d"
+                    .formatted(ids.size(), properties.getBatchMaxSize()));
+        }
+        if (ids != null && ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        return criteriaDao.updateStatus(criteria, ids, status);
     }
 
     @Override
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.COMMENTS_CACHE, key = "#id")
     public void deleteById(long id) {
         taskDao.deleteById(id);
     }
 
+    /**
+     * Comments of the whole page are loaded with one task_id in (...) query instead of initializing
+     * the comments collection of every task, so the cost depends on the page size only
+     */
+    private List<TaskDtoResponse> convertPage(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> ids = tasks.stream().map(Task::getId).collect(Collectors.toList());
+        return taskMapper.convertToDtos(tasks, latestComments(ids));
+    }
+
+    /**
+     * Only the latest comments are embedded in task responses, so a response stays bounded however long the thread is
+     */
+    private List<Comment> latestComments(List<Long> taskIds) {
+        return commentDao.findLatestByTaskIdIn(taskIds, properties.getEmbeddedComments());
+    }
+
+    /**
+     * CSV field by RFC 4180: quoted only if it contains a separator, a quote or a line break
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String field = value.toString();
+        if (field.contains(",") || field.contains("\"") || field.contains("\n") || field.contains("\r")) {
+            return "\"" + field.replace("\"", "\"\"") + "\"";
+        }
+        return field;
+    }
+
     private List<SearchCriteria> collectSearchCriteriaParams(Long implementorId, Long authorId,
                                                              TaskStatus status, TaskPriority priority) {
         List<SearchCriteria> params = new ArrayList<>();
         if (authorId != null) {
-            params.add(new SearchCriteria("author", ":", authorId));
+            params.add(new SearchCriteria(TaskSearchAttribute.AUTHOR, SearchOperation.EQUAL, authorId));
         }
         if (implementorId != null) {
-            params.add(new SearchCriteria("implementor", ":", implementorId));
+            params.add(new SearchCriteria(TaskSearchAttribute.IMPLEMENTOR, SearchOperation.EQUAL, implementorId));
         }
         if (status != null) {
-            params.add(new SearchCriteria("status", ":", status.name()));
+            params.add(new SearchCriteria(TaskSearchAttribute.STATUS, SearchOperation.EQUAL, status));
         }
         if (priority != null) {
-            params.add(new SearchCriteria("priority", ":", priority.name()));
+            params.add(new SearchCriteria(TaskSearchAttribute.PRIORITY, SearchOperation.EQUAL, priority));
         }
 
         return params;
@@ -2,6 +2,9 @@ package com.effectivemobile.taskmanagementsystem.service;
 
 import com.effectivemobile.taskmanagementsystem.model.User;
 
+import java.util.Collection;
+import java.util.List;
+
 public interface UserService {
     User create(User user);
 
@@ -9,5 +12,7 @@ public interface UserService {
 
     User getById(long id);
 
+    List<User> getAllById(Collection<Long> ids);
+
     User getCurrentAppUser();
 }
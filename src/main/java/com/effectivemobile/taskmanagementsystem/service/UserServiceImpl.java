@@ -6,7 +6,6 @@ import com.effectivemobile.taskmanagementsystem.exception.EntityNotFoundExceptio
 import com.effectivemobile.taskmanagementsystem.exception.UserNotFoundException;
 import com.effectivemobile.taskmanagementsystem.model.User;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
@@ -14,7 +13,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Set;
+import java.util.Collection;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -54,27 +54,35 @@ public class UserServiceImpl implements UserService, UserDetailsService {
     }
 
     /**
-     * Получение текущего пользователя
+     * Users with the given ids in one query, unknown ids are skipped
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<User> getAllById(Collection<Long> ids) {
+        return userDao.findAllById(ids);
+    }
+
+    /**
+     * Получение текущего пользователя. Пользователь однократно определяется фильтром аутентификации
+     * и хранится в контексте Spring Security текущего запроса, поэтому повторные вызовы не обращаются к БД
      *
      * @return текущий пользователь
      */
     @Transactional(readOnly = true)
     public User getCurrentAppUser() {
-        // Получение имени пользователя из контекста Spring Security
-        var email = SecurityContextHolder.getContext().getAuthentication().getName();
-        return getUserByEmail(email);
+        // Получение пользователя из контекста Spring Security
+        var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
+        return getUserByEmail(authentication.getName());
     }
 
     @Override
     @Transactional(readOnly = true)
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        User user = userDao.findByEmail(username)
+        return userDao.findByEmail(username)
                 .orElseThrow(() ->
                         new UserNotFoundException("User with login: %s not found".formatted(username)));
-
-        return new org.springframework.security.core.userdetails.User(
-                user.getEmail(),
-                user.getPassword(),
-                Set.of(new SimpleGrantedAuthority(user.getRole().toString())));
     }
 }
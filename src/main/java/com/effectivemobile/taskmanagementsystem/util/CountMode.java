@@ -0,0 +1,20 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+/**
+ * How the total number of tasks is determined for a page of the task search
+ */
+public enum CountMode {
+    /**
+     * COUNT(*) of the search on every page
+     */
+    EXACT,
+    /**
+     * planner statistics of the tasks table without filters, otherwise the count of the same criteria
+     * cached for a short time
+     */
+    APPROXIMATE,
+    /**
+     * no count at all, the page only reports whether there is a next one
+     */
+    NONE
+}
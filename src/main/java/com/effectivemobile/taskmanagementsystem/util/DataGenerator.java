@@ -0,0 +1,270 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import com.effectivemobile.taskmanagementsystem.config.DataGeneratorProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+
+/**
+ * Fills users, tasks and comments with a large synthetic dataset for benchmarks and index tuning:
+ * tasks per implementor follow a Zipf distribution, comments per task a Pareto (heavy-tailed) one,
+ * statuses and priorities a fixed mix. Rows go in multi-row inserts of {@code rows-per-insert}.
+ * Deterministic for a seed. A seed that has been generated completely is skipped, a partially generated one
+ * (a run that died midway) fails the run: its users, tasks and comments have to be deleted first.
+ * Runs with the {@code data-generator} profile (application-data-generator.yml), e.g.
+ * {@code --spring.profiles.active=data-generator --application.data-generator.tasks=5000000}
+ */
+@Component
+@Profile("data-generator")
+@EnableConfigurationProperties(DataGeneratorProperties.class)
+@RequiredArgsConstructor
+@Slf4j
+public class DataGenerator implements ApplicationRunner {
+    private static final String RAW_PASSWORD = "password";
+
+    private static final String[] STATUSES = {"COMPLETED", "IN_PROCESS", "IN_STAY"};
+
+    private static final double[] STATUS_CDF = {0.5, 0.8, 1.0};
+
+    private static final String[] PRIORITIES = {"MIDDLE", "LOW", "HIGH"};
+
+    private static final double[] PRIORITY_CDF = {0.5, 0.8, 1.0};
+
+    /**
+     * Share of comments written by the implementor of the task, the rest by other users
+     */
+    private static final double IMPLEMENTOR_COMMENT_SHARE = 0.7;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final PasswordEncoder passwordEncoder;
+
+    private final DataGeneratorProperties properties;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        generate();
+    }
+
+    /**
+     * @throws IllegalStateException if the seed is only partially generated
+     */
+    public void generate() {
+        long existingUsers = count("select count(*) from users where email like ?");
+        if (existingUsers > 0) {
+            checkCompletelyGenerated(existingUsers);
+            log.info("data of seed {} is already generated", properties.getSeed());
+            return;
+        }
+
+        long start = System.nanoTime();
+        long[] userIds = insertUsers();
+        long comments = generateTasksAndComments(userIds, true);
+        log.info("generated {} users, {} tasks and {} comments of seed {} in {} s", userIds.length,
+                properties.getTasks(), comments, properties.getSeed(),
+                TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start));
+    }
+
+    /**
+     * The comments of the last task chunk are the last rows of a run, so a seed is complete when the numbers
+     * of its users, tasks and comments match the configuration. The expected number of comments is found
+     * by replaying the random sequence of the seed without writing
+     */
+    private void checkCompletelyGenerated(long existingUsers) {
+        long tasks = count("select count(*) from tasks t join users u on u.id = t.author_id where u.email like ?");
+        long comments = count("select count(*) from comments c join tasks t on t.id = c.task_id "
+                + "join users u on u.id = t.author_id where u.email like ?");
+        long expectedComments = generateTasksAndComments(LongStream.rangeClosed(1, properties.getUsers()).toArray(),
+                false);
+        if (existingUsers != properties.getUsers() || tasks != properties.getTasks() || comments != expectedComments) {
+            throw new IllegalStateException(("Seed %d is partially generated: %d of %d users, %d of %d tasks, "
+                    + "%d of %d comments. Delete its comments, tasks and users (emails like %s) and run again")
+                    .formatted(properties.getSeed(), existingUsers, properties.getUsers(), tasks,
+                            properties.getTasks(), comments, expectedComments, emailPattern()));
+        }
+    }
+
+    /**
+     * @param userIds ids of the users of the seed in the order of generation, admins first
+     * @param write   false to only consume the random sequence and count the comments
+     * @return number of comments of the seed
+     */
+    private long generateTasksAndComments(long[] userIds, boolean write) {
+        SplittableRandom random = new SplittableRandom(properties.getSeed());
+        int admins = Math.max(1, userIds.length / 100);
+
+        long[] implementorsByRank = userIds.length > admins
+                ? Arrays.copyOfRange(userIds, admins, userIds.length)
+                : userIds.clone();
+        shuffle(implementorsByRank, random);
+        double[] implementorCdf = zipfCdf(implementorsByRank.length, properties.getImplementorSkew());
+
+        return insertTasksAndComments(random, Arrays.copyOf(userIds, admins), implementorsByRank, implementorCdf,
+                write);
+    }
+
+    /**
+     * @return ids of the generated users in the order of generation, admins first
+     */
+    private long[] insertUsers() {
+        String password = passwordEncoder.encode(RAW_PASSWORD);
+        int admins = Math.max(1, properties.getUsers() / 100);
+        List<Object[]> rows = new ArrayList<>(properties.getRowsPerInsert());
+        for (int i = 0; i < properties.getUsers(); i++) {
+            rows.add(new Object[]{email(i), password, i < admins ? Role.ROLE_ADMIN.name() : Role.ROLE_USER.name()});
+            if (rows.size() == properties.getRowsPerInsert()) {
+                insert("users (email, password, role)", rows);
+            }
+        }
+        insert("users (email, password, role)", rows);
+
+        return jdbcTemplate.queryForList("select id from users where email like ? order by id", Long.class,
+                        emailPattern()).stream()
+                .mapToLong(Long::longValue)
+                .toArray();
+    }
+
+    /**
+     * Inserts the tasks chunk by chunk, reads back the ids of every chunk and inserts its comments
+     *
+     * @param write false to draw the same random values without inserting anything
+     * @return number of generated comments
+     */
+    private long insertTasksAndComments(SplittableRandom random, long[] authors, long[] implementorsByRank,
+                                        double[] implementorCdf, boolean write) {
+        Long maxId = jdbcTemplate.queryForObject("select max(id) from tasks", Long.class);
+        long lastTaskId = maxId == null ? 0 : maxId;
+        int chunk = properties.getRowsPerInsert();
+        long comments = 0;
+        List<Object[]> commentRows = new ArrayList<>(chunk);
+
+        for (int offset = 0; offset < properties.getTasks(); offset += chunk) {
+            int size = Math.min(chunk, properties.getTasks() - offset);
+            long[] implementors = new long[size];
+            List<Object[]> taskRows = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int number = offset + i + 1;
+                implementors[i] = implementorsByRank[sample(implementorCdf, random)];
+                taskRows.add(new Object[]{"Task " + number, "Generated task " + number,
+                        PRIORITIES[sample(PRIORITY_CDF, random)], STATUSES[sample(STATUS_CDF, random)],
+                        authors[random.nextInt(authors.length)], implementors[i]});
+            }
+            List<Long> taskIds = List.of();
+            if (write) {
+                insert("tasks (title, description, priority, status, author_id, implementor_id)", taskRows);
+                taskIds = jdbcTemplate.queryForList(
+                        "select id from tasks where id > ? order by id fetch first ? rows only", Long.class,
+                        lastTaskId, size);
+                lastTaskId = taskIds.get(taskIds.size() - 1);
+            }
+
+            for (int i = 0; i < size; i++) {
+                int thread = commentCount(random);
+                comments += thread;
+                for (int j = 0; j < thread; j++) {
+                    long author = random.nextDouble() < IMPLEMENTOR_COMMENT_SHARE
+                            ? implementors[i]
+                            : implementorsByRank[sample(implementorCdf, random)];
+                    if (write) {
+                        commentRows.add(new Object[]{"Comment " + (j + 1), author, taskIds.get(i)});
+                        if (commentRows.size() == chunk) {
+                            insert("comments (text, author_id, task_id)", commentRows);
+                        }
+                    }
+                }
+            }
+            insert("comments (text, author_id, task_id)", commentRows);
+        }
+        return comments;
+    }
+
+    /**
+     * Inserts the rows in one multi-row statement and clears them
+     *
+     * @return number of inserted rows
+     */
+    private int insert(String tableWithColumns, List<Object[]> rows) {
+        if (rows.isEmpty()) {
+            return 0;
+        }
+        int columns = rows.get(0).length;
+        String row = "(" + String.join(", ", Collections.nCopies(columns, "?")) + ")";
+        Object[] params = rows.stream().flatMap(Arrays::stream).toArray();
+        jdbcTemplate.update("insert into " + tableWithColumns + " values "
+                + String.join(", ", Collections.nCopies(rows.size(), row)), params);
+        int inserted = rows.size();
+        rows.clear();
+        return inserted;
+    }
+
+    /**
+     * Heavy-tailed number of comments: P(count >= n) = (n + 1)^-tailIndex
+     */
+    private int commentCount(SplittableRandom random) {
+        double pareto = Math.pow(1 - random.nextDouble(), -1 / properties.getCommentTailIndex());
+        return (int) Math.min(properties.getMaxCommentsPerTask(), Math.floor(pareto) - 1);
+    }
+
+    private String email(int index) {
+        return "s" + properties.getSeed() + "-user" + index + "@generated.example.com";
+    }
+
+    private String emailPattern() {
+        return "s" + properties.getSeed() + "-user%@generated.example.com";
+    }
+
+    /**
+     * @param sql count query with the email pattern of the seed as its only parameter
+     */
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, emailPattern());
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * @return cumulative probabilities of the ranks 1..n with the weight 1 / rank^exponent
+     */
+    private static double[] zipfCdf(int n, double exponent) {
+        double[] cdf = new double[n];
+        double sum = 0;
+        for (int rank = 1; rank <= n; rank++) {
+            sum += 1 / Math.pow(rank, exponent);
+            cdf[rank - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cdf[i] /= sum;
+        }
+        return cdf;
+    }
+
+    /**
+     * @return index of the first cumulative probability not below a uniform random value
+     */
+    private static int sample(double[] cdf, SplittableRandom random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return Math.min(index >= 0 ? index : -index - 1, cdf.length - 1);
+    }
+
+    private static void shuffle(long[] values, SplittableRandom random) {
+        for (int i = values.length - 1; i > 0; i--) {
+            int j = random.nextInt(i + 1);
+            long value = values[i];
+            values[i] = values[j];
+            values[j] = value;
+        }
+    }
+}
@@ -1,14 +1,31 @@
 package com.effectivemobile.taskmanagementsystem.util;
 
-import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Value;
 
-@Data
-@AllArgsConstructor
+/**
+ * Criterion of the task search, the value is converted to the type of the attribute on creation
+ */
+@Value
 public class SearchCriteria {
-    private String key;
+    TaskSearchAttribute attribute;
 
-    private String operation;
+    SearchOperation operation;
 
-    private Object value;
+    Object value;
+
+    /**
+     * @throws IllegalArgumentException if the attribute does not support the operation or the value
+     *                                  has no value of the attribute type
+     */
+    public SearchCriteria(TaskSearchAttribute attribute, SearchOperation operation, Object value) {
+        if (!attribute.supports(operation)) {
+            throw new IllegalArgumentException("%s does not support %s".formatted(attribute, operation));
+        }
+        if (value == null) {
+            throw new IllegalArgumentException("No value of " + attribute);
+        }
+        this.attribute = attribute;
+        this.operation = operation;
+        this.value = attribute.convert(value);
+    }
 }
@@ -0,0 +1,30 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Operations of the task search criteria
+ */
+@Getter
+@RequiredArgsConstructor
+public enum SearchOperation {
+    /**
+     * equal value, substring for the text attributes
+     */
+    EQUAL(":"),
+    /**
+     * value or greater, in the order of the attribute type
+     */
+    GREATER_OR_EQUAL(">"),
+    /**
+     * value or less, in the order of the attribute type
+     */
+    LESS_OR_EQUAL("<");
+
+    private final String symbol;
+
+    public boolean isRange() {
+        return this != EQUAL;
+    }
+}
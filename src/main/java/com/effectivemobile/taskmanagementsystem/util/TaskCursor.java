@@ -0,0 +1,45 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import com.effectivemobile.taskmanagementsystem.exception.InvalidCursorException;
+import org.springframework.data.domain.Sort;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Position of the last returned task for keyset pagination: (sort key value, id).
+ * Clients get it as an opaque url-safe token and pass it back unchanged to get the next slice.
+ *
+ * @param value sort key value of the last task, null for {@link TaskSortKey#ID} only
+ */
+public record TaskCursor(TaskSortKey sortKey, Sort.Direction direction, String value, long id) {
+    private static final String SEPARATOR = "|";
+
+    private static final String NULL_VALUE = "~";
+
+    public String encode() {
+        String raw = String.join(SEPARATOR, sortKey.name(), direction.name(), String.valueOf(id),
+                value == null ? NULL_VALUE : "v" + value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TaskCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\" + SEPARATOR, 4);
+            if (parts.length != 4) {
+                throw new InvalidCursorException("Cursor %s is malformed".formatted(token));
+            }
+            TaskSortKey sortKey = TaskSortKey.valueOf(parts[0]);
+            String value = parts[3].equals(NULL_VALUE) ? null : parts[3].substring(1);
+            if ((value == null) != (sortKey == TaskSortKey.ID)) {
+                throw new InvalidCursorException("Cursor %s is malformed".formatted(token));
+            }
+            sortKey.parse(value); //the value must be valid for the sort key
+
+            return new TaskCursor(sortKey, Sort.Direction.valueOf(parts[1]), value, Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new InvalidCursorException("Cursor %s is malformed".formatted(token));
+        }
+    }
+}
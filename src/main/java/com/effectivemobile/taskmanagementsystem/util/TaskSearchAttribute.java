@@ -0,0 +1,98 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import jakarta.persistence.criteria.Path;
+import lombok.Getter;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Attributes of a task the search can filter by, with the path in the entity, the column of the tasks table
+ * and the Java type the values of the criteria are converted to
+ */
+@Getter
+public enum TaskSearchAttribute {
+    ID("id", "id", Long.class),
+    TITLE("title", "title", String.class),
+    DESCRIPTION("description", "description", String.class),
+    STATUS("status", "status", TaskStatus.class),
+    PRIORITY("priority", "priority", TaskPriority.class),
+    AUTHOR("author.id", "author_id", Long.class),
+    IMPLEMENTOR("implementor.id", "implementor_id", Long.class);
+
+    private final String path;
+
+    private final String column;
+
+    private final Class<?> type;
+
+    private final String[] segments;
+
+    TaskSearchAttribute(String path, String column, Class<?> type) {
+        this.path = path;
+        this.column = column;
+        this.type = type;
+        this.segments = path.split("\\.");
+    }
+
+    /**
+     * @param path path in the entity, e.g. {@code author.id}
+     */
+    public static Optional<TaskSearchAttribute> ofPath(String path) {
+        return Arrays.stream(values())
+                .filter(attribute -> attribute.path.equals(path))
+                .findFirst();
+    }
+
+    /**
+     * Substring match instead of equality, see {@link SearchOperation#EQUAL}
+     */
+    public boolean isText() {
+        return type == String.class;
+    }
+
+    /**
+     * Ranges are compared in the order of the type, enums are stored by name and have no meaningful order
+     */
+    public boolean supports(SearchOperation operation) {
+        return !operation.isRange() || !type.isEnum();
+    }
+
+    public <T> Path<T> path(Path<?> root) {
+        Path<?> path = root;
+        for (String segment : segments) {
+            path = path.get(segment);
+        }
+        @SuppressWarnings("unchecked")
+        Path<T> typed = (Path<T>) path;
+        return typed;
+    }
+
+    /**
+     * @return value of the type of the attribute
+     * @throws IllegalArgumentException if the value cannot be converted
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public Object convert(Object value) {
+        if (value == null || type.isInstance(value)) {
+            return value;
+        }
+        if (type == Long.class && value instanceof Number number) {
+            return number.longValue();
+        }
+        if (type == Long.class && value instanceof String string) {
+            try {
+                return Long.valueOf(string.trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("%s is not a number: %s".formatted(this, string), e);
+            }
+        }
+        if (type.isEnum() && value instanceof String string) {
+            return Enum.valueOf((Class<? extends Enum>) type, string);
+        }
+        if (type == String.class) {
+            return value.toString();
+        }
+        throw new IllegalArgumentException("%s does not accept %s".formatted(this, value.getClass().getSimpleName()));
+    }
+}
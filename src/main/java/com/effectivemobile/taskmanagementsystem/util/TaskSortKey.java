@@ -0,0 +1,39 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import com.effectivemobile.taskmanagementsystem.model.Task;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Function;
+
+/**
+ * Sort keys available for the keyset (cursor) pagination of tasks, id is always the tie-breaker
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TaskSortKey {
+    ID("id", task -> null, value -> null),
+    STATUS("status", Task::getStatus, TaskStatus::valueOf),
+    PRIORITY("priority", Task::getPriority, TaskPriority::valueOf);
+
+    private final String attribute;
+
+    private final Function<Task, Enum<?>> extractor;
+
+    private final Function<String, Enum<?>> parser;
+
+    /**
+     * @return value of the sort key as it is stored in the cursor or null for {@link #ID} and null values
+     */
+    public String extract(Task task) {
+        Enum<?> value = extractor.apply(task);
+        return value == null ? null : value.name();
+    }
+
+    /**
+     * @return value of the attribute for the query or null
+     */
+    public Object parse(String value) {
+        return value == null ? null : parser.apply(value);
+    }
+}
@@ -2,18 +2,25 @@ package com.effectivemobile.taskmanagementsystem.util;
 
 import com.effectivemobile.taskmanagementsystem.dao.UserDao;
 import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.security.OffloadingPasswordEncoder;
+import com.effectivemobile.taskmanagementsystem.security.PasswordHashingProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.context.event.EventListener;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+/**
+ * Hashes the plain text passwords left in the users table. Walks the table by id in batches of
+ * {@code migration-batch-size}, every batch is locked with {@code skip locked}, hashed in parallel on the
+ * password hashing pool and committed in its own transaction: an interrupted run resumes from the rows
+ * still in plain text and several nodes starting at once split the rows between them
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -23,32 +30,50 @@ public class UserPasswordCryptographer {
 
     private final UserDao dao;
 
-    private final PasswordEncoder passwordEncoder;
+    private final OffloadingPasswordEncoder passwordEncoder;
+
+    private final PasswordHashingProperties properties;
+
+    private final PlatformTransactionManager transactionManager;
 
     @EventListener(ContextRefreshedEvent.class)
-    @Transactional
     public void encodeUsersPasswords() {
-        List<User> users = dao.findAll();
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        EncodedBatch batch = new EncodedBatch(0, 0);
+        int encoded = 0;
+        do {
+            long afterId = batch.lastId();
+            batch = transactionTemplate.execute(status -> encodeBatch(afterId));
+            encoded += batch == null ? 0 : batch.encoded();
+        } while (batch != null);
+        if (encoded > 0) {
+            log.info("encoded {} plain text passwords", encoded);
+        }
+    }
 
-        if (!users.isEmpty()) {
-            String password = users.get(0).getPassword();
-            if (isAlreadyEncoded(password)) {
-                return;
-            }
+    /**
+     * @return the last id of the batch and the number of hashed passwords, null when no rows are left
+     */
+    private EncodedBatch encodeBatch(long afterId) {
+        List<User> users = dao.findAllWithPlainPasswordForUpdate(afterId, properties.getMigrationBatchSize());
+        if (users.isEmpty()) {
+            return null;
         }
 
-        log.info("encoding passwords...");
-        for (User user : users) {
-            user.setPassword(passwordEncoder.encode(user.getPassword()));
+        List<User> plain = users.stream()
+                .filter(user -> !isAlreadyEncoded(user.getPassword()))
+                .toList();
+        List<String> hashes = passwordEncoder.encodeAll(plain.stream().map(User::getPassword).toList());
+        for (int i = 0; i < plain.size(); i++) {
+            plain.get(i).setPassword(hashes.get(i));
         }
-        dao.saveAll(users);
+        return new EncodedBatch(users.get(users.size() - 1).getId(), plain.size());
     }
 
     private boolean isAlreadyEncoded(String password) {
-        Matcher matcher = BCRYPT_PATTERN.matcher(password);
+        return BCRYPT_PATTERN.matcher(password).matches();
+    }
 
-        boolean matches = matcher.matches();
-        log.info("passwords already encoded? {}", matches);
-        return matches;
+    private record EncodedBatch(long lastId, int encoded) {
     }
-}
\ No newline at end of file
+}
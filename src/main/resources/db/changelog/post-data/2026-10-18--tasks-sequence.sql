@@ -0,0 +1,23 @@
+--liquibase formatted sql
+
+--changeset timofeev_vadim:2026-10-18--tasks-sequence dbms:postgresql
+--comment: Hibernate takes blocks of 50 task ids per sequence call (pooled-lo), so inserts can be batched.
+--comment: Runs after the data changesets, the rows inserted before keep their dense ids
+
+create sequence if not exists tasks_seq increment by 50 owned by tasks.id;
+select setval('tasks_seq', (select coalesce(max(id), 0) + 1 from tasks), false);
+alter table tasks alter column id set default nextval('tasks_seq');
+drop sequence if exists tasks_id_seq;
+
+--rollback create sequence if not exists tasks_id_seq owned by tasks.id;
+--rollback select setval('tasks_id_seq', (select coalesce(max(id), 0) + 1 from tasks), false);
+--rollback alter table tasks alter column id set default nextval('tasks_id_seq');
+--rollback drop sequence if exists tasks_seq;
+
+--changeset timofeev_vadim:2026-10-18--tasks-sequence-h2 dbms:h2
+--comment: same as 2026-10-18--tasks-sequence for H2, the identity column becomes a plain sequence default
+
+create sequence if not exists tasks_seq increment by 50;
+alter sequence tasks_seq restart with (select coalesce(max(id), 0) + 1 from tasks);
+alter table tasks alter column id drop identity;
+alter table tasks alter column id set default next value for tasks_seq;
@@ -0,0 +1,13 @@
+--liquibase formatted sql
+
+--changeset timofeev_vadim:2026-10-18--task-full-text-search dbms:postgresql
+--comment: full-text search of TaskServiceImpl.getAllByText, the title weighs more than the description in ts_rank.
+--comment: 'simple' configuration: no stemming, the same for titles in any language. H2 searches with LIKE instead
+
+alter table tasks add column if not exists search_vector tsvector
+    generated always as (setweight(to_tsvector('simple', coalesce(title, '')), 'A')
+        || setweight(to_tsvector('simple', coalesce(description, '')), 'B')) stored;
+create index if not exists tasks_search_vector_idx on tasks using gin (search_vector);
+
+--rollback drop index if exists tasks_search_vector_idx;
+--rollback alter table tasks drop column if exists search_vector;
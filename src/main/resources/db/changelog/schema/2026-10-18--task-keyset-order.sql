@@ -0,0 +1,23 @@
+--liquibase formatted sql
+
+--changeset timofeev_vadim:2026-10-18--task-keyset-order
+--comment: keyset pagination of TaskServiceImpl.getAllByCursor orders by (status, id) or (priority, id) and seeks
+--comment: by a range of them, which needs not null columns and indexes with id right after the sort key.
+--comment: Both fields are required by the task requests, rows left without them get the defaults
+
+update tasks set status = 'IN_STAY' where status is null;
+update tasks set priority = 'MIDDLE' where priority is null;
+alter table tasks alter column status set not null;
+alter table tasks alter column priority set not null;
+
+--admin listing sorted by status, tasks_priority_id_idx already serves the priority sort
+create index if not exists tasks_status_id_idx on tasks (status, id);
+--non-admin listing, implementor_id is always forced by TaskAspect
+create index if not exists tasks_implementor_status_id_idx on tasks (implementor_id, status, id);
+create index if not exists tasks_implementor_priority_id_idx on tasks (implementor_id, priority, id);
+
+--rollback drop index if exists tasks_implementor_priority_id_idx;
+--rollback drop index if exists tasks_implementor_status_id_idx;
+--rollback drop index if exists tasks_status_id_idx;
+--rollback alter table tasks alter column priority drop not null;
+--rollback alter table tasks alter column status drop not null;
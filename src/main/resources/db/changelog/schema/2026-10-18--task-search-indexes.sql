@@ -0,0 +1,22 @@
+--liquibase formatted sql
+
+--changeset timofeev_vadim:2026-10-18--task-search-indexes
+--comment: composite indexes for the task filters of TaskServiceImpl.getAll, id is the last column for a stable order
+
+--non-admin listing, implementor_id is always forced by TaskAspect
+create index if not exists tasks_implementor_status_priority_id_idx on tasks (implementor_id, status, priority, id);
+create index if not exists tasks_author_status_priority_id_idx on tasks (author_id, status, priority, id);
+--admin listing without user filters
+create index if not exists tasks_status_priority_id_idx on tasks (status, priority, id);
+create index if not exists tasks_priority_id_idx on tasks (priority, id);
+
+--comments of a task in id order (cursor pages, latest comments of a task) and FK checks on task and user deletion
+create index if not exists comments_task_id_id_idx on comments (task_id, id);
+create index if not exists comments_author_id_idx on comments (author_id);
+
+--rollback drop index if exists tasks_implementor_status_priority_id_idx;
+--rollback drop index if exists tasks_author_status_priority_id_idx;
+--rollback drop index if exists tasks_status_priority_id_idx;
+--rollback drop index if exists tasks_priority_id_idx;
+--rollback drop index if exists comments_task_id_id_idx;
+--rollback drop index if exists comments_author_id_idx;
@@ -0,0 +1,119 @@
+package com.effectivemobile.taskmanagementsystem.benchmark;
+
+import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.mapper.CommentMapper;
+import com.effectivemobile.taskmanagementsystem.mapper.TaskMapper;
+import com.effectivemobile.taskmanagementsystem.model.Comment;
+import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.util.Role;
+import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response side of a task listing: {@code TaskMapper.convertToDto} of a task with its embedded comments,
+ * {@code CommentMapper.convertToDtos} of a comment thread and Jackson serialization of a page of 20 tasks
+ * by an object mapper configured as Spring MVC configures it. Entities are plain objects, no persistence
+ * context is involved
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class DtoMappingBenchmark {
+    private static final int PAGE_SIZE = 20;
+
+    /**
+     * Comments per task, 20 is {@code application.task.embedded-comments}
+     */
+    @Param({"0", "20"})
+    public int comments;
+
+    private final CommentMapper commentMapper = new CommentMapper();
+
+    private final TaskMapper taskMapper = new TaskMapper(commentMapper);
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private Task task;
+
+    private Page<TaskDtoResponse> page;
+
+    @Setup
+    public void setUp() {
+        List<User> users = new ArrayList<>();
+        for (long id = 1; id <= 10; id++) {
+            users.add(User.builder()
+                    .id(id)
+                    .email("user" + id + "@example.com")
+                    .role(id == 1 ? Role.ROLE_ADMIN : Role.ROLE_USER)
+                    .build());
+        }
+        List<Task> tasks = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            tasks.add(task(i + 1L, users));
+        }
+        task = tasks.get(0);
+        page = new PageImpl<>(taskMapper.convertToDtos(tasks), PageRequest.of(0, PAGE_SIZE), 1000);
+    }
+
+    @Benchmark
+    public TaskDtoResponse convertTaskToDto() {
+        return taskMapper.convertToDto(task);
+    }
+
+    @Benchmark
+    public List<CommentDtoResponse> convertCommentsToDtos() {
+        return commentMapper.convertToDtos(task.getComments());
+    }
+
+    @Benchmark
+    public String serializeTaskPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(page);
+    }
+
+    private Task task(long id, List<User> users) {
+        Task task = Task.builder()
+                .id(id)
+                .title("Task " + id)
+                .description("Description of the task " + id + " with a few more words than a title")
+                .priority(TaskPriority.values()[(int) (id % 3)])
+                .status(TaskStatus.values()[(int) (id % 3)])
+                .author(users.get(0))
+                .implementor(users.get((int) (id % (users.size() - 1)) + 1))
+                .build();
+        List<Comment> thread = new ArrayList<>(comments);
+        for (int i = 0; i < comments; i++) {
+            thread.add(Comment.builder()
+                    .id(id * 100 + i)
+                    .text("Comment " + i + " to the task " + id)
+                    .author(users.get(i % users.size()))
+                    .task(task)
+                    .build());
+        }
+        task.setComments(thread);
+        return task;
+    }
+}
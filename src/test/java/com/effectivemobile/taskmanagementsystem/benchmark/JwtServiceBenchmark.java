@@ -0,0 +1,107 @@
+package com.effectivemobile.taskmanagementsystem.benchmark;
+
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.security.JwtProperties;
+import com.effectivemobile.taskmanagementsystem.security.JwtService;
+import com.effectivemobile.taskmanagementsystem.util.Role;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.security.SecureRandom;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Authentication of one request by the JWT filter: the former path (key and parser rebuilt and the token
+ * verified three times) against the parse-once path. The {@code verifications} counter shows
+ * signature verifications per second, divided by ops/s it gives verifications per request.
+ * {@code generateToken} is the token issued on every sign-in and refresh.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class JwtServiceBenchmark {
+    private JwtProperties properties;
+
+    private JwtService jwtService;
+
+    private User user;
+
+    private String token;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Verifications {
+        public long verifications;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            verifications = 0;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        properties = new JwtProperties(Encoders.BASE64.encode(secret), 3_600_000L, 86_400_000L, false, 60_000L,
+                10_000L, 0L, 0L);
+        jwtService = new JwtService(properties);
+        user = User.builder()
+                .id(2L)
+                .email("testUser@gmail.com")
+                .role(Role.ROLE_USER)
+                .build();
+        token = jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtService.generateToken(user);
+    }
+
+    @Benchmark
+    public boolean rebuiltParserThreeVerifications(Verifications counter) {
+        String username = legacyParse(token, counter).getSubject();
+        return username.equals(user.getUsername())
+                && legacyParse(token, counter).getSubject().equals(user.getUsername())
+                && !legacyParse(token, counter).getExpiration().before(new Date());
+    }
+
+    @Benchmark
+    public boolean cachedParserSingleVerification(Verifications counter) {
+        Claims claims = jwtService.parseVerifiedClaims(token);
+        counter.verifications++;
+        return jwtService.isTokenValid(claims, user);
+    }
+
+    /**
+     * Former {@code JwtService.extractAllClaims}: decodes the key and builds a new parser for every call
+     */
+    private Claims legacyParse(String jwt, Verifications counter) {
+        counter.verifications++;
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(properties.getSecretKey()));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(jwt)
+                .getPayload();
+    }
+}
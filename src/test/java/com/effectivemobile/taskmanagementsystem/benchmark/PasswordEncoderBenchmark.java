@@ -0,0 +1,47 @@
+package com.effectivemobile.taskmanagementsystem.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt at the cost of the application encoder ({@code new BCryptPasswordEncoder()} in {@code SecurityConfig},
+ * strength 10): hashing on sign-up and the password migration, verification on every sign-in.
+ * The time of one operation bounds the sign-ins per second of one password hashing thread
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class PasswordEncoderBenchmark {
+    private static final String RAW_PASSWORD = "password";
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+
+    private String hash;
+
+    @Setup
+    public void setUp() {
+        hash = encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return encoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return encoder.matches(RAW_PASSWORD, hash);
+    }
+}
@@ -0,0 +1,107 @@
+package com.effectivemobile.taskmanagementsystem.benchmark;
+
+import com.effectivemobile.taskmanagementsystem.Main;
+import com.effectivemobile.taskmanagementsystem.security.JwtService;
+import com.effectivemobile.taskmanagementsystem.service.UserService;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mixed load over HTTP against the application on the in-memory H2 database of the tests: 192 clients page
+ * through the tasks while 64 clients change task statuses, more clients than Tomcat has platform threads (200).
+ * Sample time mode reports the percentiles (p0.99) of every group, ops/s is the reciprocal of the mean.
+ * The {@code virtual} mode needs a Java 21 runtime: {@code mvn -B test-compile exec:exec -Pbenchmark,java21
+ * -Djmh.args="RequestThreadingBenchmark -f 1"}
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+    private static final String ADMIN_EMAIL = "testAdmin@gmail.com";
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private String baseUrl;
+
+    private String authorization;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = threads.equals("virtual");
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need a Java 21 runtime, run with -Pbenchmark,java21");
+        }
+        context = new SpringApplicationBuilder(Main.class)
+                .run("--server.port=0", "--spring.threads.virtual.enabled=" + virtual,
+                        "--spring.jpa.show-sql=false", "--logging.level.root=warn", "--logging.level.web=warn");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1/task";
+        String token = context.getBean(JwtService.class)
+                .generateToken(context.getBean(UserService.class).getUserByEmail(ADMIN_EMAIL));
+        authorization = "Bearer " + token;
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(192)
+    public int read() throws IOException, InterruptedException {
+        int page = ThreadLocalRandom.current().nextInt(5);
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "?page=" + page + "&size=2")).GET());
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(64)
+    public int write() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String query = "?id=" + random.nextInt(1, 11) + "&status=" + STATUSES[random.nextInt(STATUSES.length)];
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/status" + query))
+                .PUT(HttpRequest.BodyPublishers.noBody()));
+    }
+
+    private int send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        int status = client.send(request.header(HttpHeaders.AUTHORIZATION, authorization).build(),
+                HttpResponse.BodyHandlers.discarding()).statusCode();
+        if (status != 200) {
+            throw new IllegalStateException("Unexpected status " + status);
+        }
+        return status;
+    }
+}
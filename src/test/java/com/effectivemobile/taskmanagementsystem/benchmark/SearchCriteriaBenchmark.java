@@ -0,0 +1,95 @@
+package com.effectivemobile.taskmanagementsystem.benchmark;
+
+import com.effectivemobile.taskmanagementsystem.Main;
+import com.effectivemobile.taskmanagementsystem.dao.SearchQueryCriteriaConsumer;
+import com.effectivemobile.taskmanagementsystem.dao.TaskSearchPlan;
+import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.util.SearchCriteria;
+import com.effectivemobile.taskmanagementsystem.util.SearchOperation;
+import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Building the task search of a filtered listing (implementor, status and priority, as {@code TaskServiceImpl}
+ * passes them): the predicate alone by {@link SearchQueryCriteriaConsumer}, the typed query Hibernate
+ * creates from the criteria query and the typed query of the cached {@link TaskSearchPlan} of the same criteria,
+ * without executing them. Runs on the entity manager of the application on the in-memory H2 database of the tests
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class SearchCriteriaBenchmark {
+    private final List<SearchCriteria> params = List.of(
+            new SearchCriteria(TaskSearchAttribute.IMPLEMENTOR, SearchOperation.EQUAL, 2L),
+            new SearchCriteria(TaskSearchAttribute.STATUS, SearchOperation.EQUAL, TaskStatus.IN_STAY),
+            new SearchCriteria(TaskSearchAttribute.PRIORITY, SearchOperation.EQUAL, TaskPriority.HIGH));
+
+    private ConfigurableApplicationContext context;
+
+    private EntityManager entityManager;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=warn", "--logging.level.web=warn");
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public CriteriaQuery<Task> buildPredicate() {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = builder.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        SearchQueryCriteriaConsumer searchConsumer =
+                new SearchQueryCriteriaConsumer(builder.conjunction(), builder, root);
+        params.forEach(searchConsumer);
+        return query.where(searchConsumer.getPredicate());
+    }
+
+    @Benchmark
+    public TypedQuery<Task> createTypedQuery() {
+        return entityManager.createQuery(buildPredicate())
+                .setFirstResult(0)
+                .setMaxResults(20);
+    }
+
+    @Benchmark
+    public TypedQuery<Task> createPlannedQuery() {
+        return TaskSearchPlan.of(params).createQuery(entityManager, params)
+                .setFirstResult(0)
+                .setMaxResults(20);
+    }
+}
@@ -0,0 +1,84 @@
+package com.effectivemobile.taskmanagementsystem.benchmark;
+
+import com.effectivemobile.taskmanagementsystem.Main;
+import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskBatchItemDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.service.TaskService;
+import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tasks created per second by {@code TaskService.create} called for every task (a transaction and an insert
+ * per task) against one {@code TaskService.createAll} (one users query, JDBC batches of 50 inserts).
+ * Runs the application without the web layer on the in-memory H2 database of the tests
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class TaskBatchInsertBenchmark {
+    private static final int TASKS = 100;
+
+    private ConfigurableApplicationContext context;
+
+    private TaskService taskService;
+
+    private List<TaskDtoCreateRequest> tasks;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.jpa.show-sql=false", "--logging.level.root=warn", "--logging.level.web=warn");
+        taskService = context.getBean(TaskService.class);
+        tasks = Collections.nCopies(TASKS, TaskDtoCreateRequest.builder()
+                .title("title")
+                .description("description")
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.IN_STAY)
+                .authorId(1L)
+                .implementorId(2L)
+                .build());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void singleInserts(Blackhole blackhole) {
+        for (TaskDtoCreateRequest task : tasks) {
+            TaskDtoResponse created = taskService.create(task);
+            blackhole.consume(created);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public List<TaskBatchItemDtoResponse> batchInsert() {
+        return taskService.createAll(tasks);
+    }
+}
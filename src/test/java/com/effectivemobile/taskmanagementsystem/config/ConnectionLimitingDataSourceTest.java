@@ -0,0 +1,68 @@
+package com.effectivemobile.taskmanagementsystem.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Ограничение числа одновременно занятых соединений семафором")
+class ConnectionLimitingDataSourceTest {
+    private static final int PERMITS = 2;
+
+    private DataSource pool;
+
+    private Connection pooledConnection;
+
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        pool = mock(DataSource.class);
+        pooledConnection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(pooledConnection);
+        dataSource = new ConnectionLimitingDataSource(pool, PERMITS, 50);
+    }
+
+    @Test
+    void getConnectionWaitsNoLongerThanTimeoutWhenPermitsAreTaken() throws SQLException {
+        Connection first = dataSource.getConnection();
+        dataSource.getConnection();
+
+        assertThrowsExactly(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+
+        first.close();
+        assertDoesNotThrow(() -> dataSource.getConnection());
+        verify(pool, times(PERMITS + 1)).getConnection();
+    }
+
+    @Test
+    void repeatedCloseReleasesPermitOnce() throws SQLException {
+        Connection connection = dataSource.getConnection();
+
+        connection.close();
+        connection.close();
+
+        assertEquals(PERMITS, dataSource.getAvailablePermits());
+        verify(pooledConnection, times(2)).close();
+    }
+
+    @Test
+    void permitIsReleasedWhenPoolFails() throws SQLException {
+        when(pool.getConnection()).thenThrow(new SQLTransientConnectionException("pool is exhausted"));
+
+        assertThrowsExactly(SQLTransientConnectionException.class, () -> dataSource.getConnection());
+        assertEquals(PERMITS, dataSource.getAvailablePermits());
+    }
+}
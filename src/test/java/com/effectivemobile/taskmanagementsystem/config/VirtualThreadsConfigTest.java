@@ -0,0 +1,44 @@
+package com.effectivemobile.taskmanagementsystem.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Ограничение соединений при обработке запросов в виртуальных потоках")
+class VirtualThreadsConfigTest {
+    private final ApplicationContextRunner runner = new ApplicationContextRunner()
+            .withUserConfiguration(VirtualThreadsConfig.class);
+
+    @Test
+    void postProcessorLimitsHikariPoolBySemaphoreOfPoolSize() {
+        BeanPostProcessor postProcessor = VirtualThreadsConfig.connectionLimitingDataSourcePostProcessor();
+        try (HikariDataSource pool = new HikariDataSource()) {
+            pool.setMaximumPoolSize(7);
+
+            Object limited = postProcessor.postProcessAfterInitialization(pool, "dataSource");
+            Object other = postProcessor.postProcessAfterInitialization("bean", "other");
+
+            assertThat(limited).isInstanceOf(ConnectionLimitingDataSource.class)
+                    .hasFieldOrPropertyWithValue("availablePermits", 7)
+                    .hasFieldOrPropertyWithValue("targetDataSource", pool);
+            assertThat(other).isEqualTo("bean");
+        }
+    }
+
+    /**
+     * Virtual threads are enabled by the property on a Java 21 runtime only
+     */
+    @Test
+    void configIsActiveOnlyWhenRequestsAreServedOnVirtualThreads() {
+        boolean virtualThreadsSupported = Runtime.version().feature() >= 21;
+
+        runner.run(context -> assertThat(context).doesNotHaveBean(VirtualThreadsConfig.class));
+        runner.withPropertyValues("spring.threads.virtual.enabled=true")
+                .run(context -> assertThat(context.containsBean("connectionLimitingDataSourcePostProcessor"))
+                        .isEqualTo(virtualThreadsSupported));
+    }
+}
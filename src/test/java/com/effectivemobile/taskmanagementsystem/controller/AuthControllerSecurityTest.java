@@ -4,8 +4,10 @@ import com.effectivemobile.taskmanagementsystem.dto.request.auth.JwtAuthenticati
 import com.effectivemobile.taskmanagementsystem.dto.request.auth.JwtRefreshRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.auth.SignInRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.auth.SignUpRequest;
+import com.effectivemobile.taskmanagementsystem.exception.PasswordHashingRejectedException;
 import com.effectivemobile.taskmanagementsystem.exception.UserNotFoundException;
 import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.security.PasswordHashingExecutor;
 import com.effectivemobile.taskmanagementsystem.service.UserServiceImpl;
 import com.effectivemobile.taskmanagementsystem.util.Role;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +18,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.test.context.support.WithMockUser;
@@ -25,8 +29,11 @@ import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -46,6 +53,9 @@ class AuthControllerSecurityTest {
     @Autowired
     private PasswordEncoder encoder;
 
+    @SpyBean
+    private PasswordHashingExecutor passwordHashingExecutor;
+
     @BeforeEach
     void stubbing() {
         when(userService.create(any(User.class))).thenReturn(User.builder().build());
@@ -130,6 +140,27 @@ class AuthControllerSecurityTest {
                 );
     }
 
+    @Test
+    void signInRejectedWhenPasswordHashingQueueIsFull() throws Exception {
+        final String email = "some@gmail.com";
+        User user = User.builder()
+                .id(1L)
+                .email(email)
+                .password(encoder.encode("password"))
+                .role(Role.ROLE_USER)
+                .build();
+        when(userService.loadUserByUsername(email)).thenReturn(user);
+        doThrow(new PasswordHashingRejectedException("Password hashing queue is full"))
+                .when(passwordHashingExecutor).execute(eq("matches"), any());
+        SignInRequest request = new SignInRequest(email, "password");
+
+        mvc.perform(MockMvcRequestBuilders.post("/api/v1/sign-in")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
+    }
+
     @Test
     void signInDenied() throws Exception {
         final String email = "some@gmail.com";
@@ -1,8 +1,11 @@
 package com.effectivemobile.taskmanagementsystem.controller;
 
+import com.effectivemobile.taskmanagementsystem.config.RequestPhaseMetrics;
 import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
+import com.effectivemobile.taskmanagementsystem.security.JwtRevocationChecker;
 import com.effectivemobile.taskmanagementsystem.security.JwtService;
 import com.effectivemobile.taskmanagementsystem.security.SecurityConfig;
+import com.effectivemobile.taskmanagementsystem.security.VerifiedTokenCache;
 import com.effectivemobile.taskmanagementsystem.security.filter.JwtAuthenticationFilter;
 import com.effectivemobile.taskmanagementsystem.util.Role;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -37,6 +40,7 @@ import java.util.stream.Stream;
 
 import static java.util.Objects.nonNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
@@ -44,7 +48,8 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(value = CommentController.class)
-@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtService.class})
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtService.class, JwtRevocationChecker.class,
+        VerifiedTokenCache.class, RequestPhaseMetrics.class})
 @DisplayName("Тест безопасности эндпоинтов контроллера для работы с комментами")
 public class CommentControllerSecurityTest {
     private static final GrantedAuthority[] USER_ROLES =
@@ -74,11 +79,14 @@ public class CommentControllerSecurityTest {
      * Для случаев, когда доступ в метод по url разрешен
      */
     @BeforeEach
+    @SuppressWarnings("deprecation")
     void stubbing() {
         doThrow(new ResponseStatusException(HttpStatus.CREATED)).when(commentController)
                 .create(any(CommentDtoCreateRequest.class));
         doThrow(new ResponseStatusException(HttpStatus.OK)).when(commentController)
                 .getAllByTaskId(anyLong());
+        doThrow(new ResponseStatusException(HttpStatus.OK)).when(commentController)
+                .getAllByTaskIdByCursor(anyLong(), any(), anyInt());
         doThrow(new ResponseStatusException(HttpStatus.OK)).when(commentController)
                 .get(anyLong());
         doThrow(new ResponseStatusException(HttpStatus.OK)).when(commentController)
@@ -130,6 +138,7 @@ public class CommentControllerSecurityTest {
         List<Arguments> args = new ArrayList<>();
         addArgsForGet(args);
         addArgsForGetAllByTaskId(args);
+        addArgsForGetAllByTaskIdByCursor(args);
         addArgsForCreate(args);
         addArgsForUpdate(args);
         addArgsForDelete(args);
@@ -157,6 +166,16 @@ public class CommentControllerSecurityTest {
                         Map.of(), Strings.EMPTY, null, null, 403)));
     }
 
+    private static void addArgsForGetAllByTaskIdByCursor(List<Arguments> args) {
+        args.addAll(List.of(
+                Arguments.of("get", "/api/v1/comment/task/1/scroll",
+                        Map.of(), Strings.EMPTY, "user", USER_ROLES, 403),
+                Arguments.of("get", "/api/v1/comment/task/1/scroll",
+                        Map.of(), Strings.EMPTY, "admin", ADMIN_ROLES, 200),
+                Arguments.of("get", "/api/v1/comment/task/1/scroll",
+                        Map.of(), Strings.EMPTY, null, null, 403)));
+    }
+
     private static void addArgsForCreate(List<Arguments> args) throws Exception {
         CommentDtoCreateRequest comment = CommentDtoCreateRequest.builder()
                 .text("some text")
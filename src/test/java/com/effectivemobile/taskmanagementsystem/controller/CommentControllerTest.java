@@ -2,6 +2,7 @@ package com.effectivemobile.taskmanagementsystem.controller;
 
 import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
 import com.effectivemobile.taskmanagementsystem.security.filter.JwtAuthenticationFilter;
 import com.effectivemobile.taskmanagementsystem.service.CommentService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -14,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
@@ -23,6 +25,7 @@ import java.util.List;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = {CommentController.class},
@@ -83,16 +86,63 @@ class CommentControllerTest {
     }
 
     @Test
+    @SuppressWarnings("deprecation")
     void getAllByTaskId() throws Exception {
         long requestId = response.getTaskId();
-        when(commentService.getAllByTask(requestId)).thenReturn(List.of(response));
+        when(commentService.getAllByTask(requestId)).thenReturn(SliceDtoResponse.<CommentDtoResponse>builder()
+                .content(List.of(response))
+                .size(100)
+                .hasNext(false)
+                .build());
 
         mvc.perform(MockMvcRequestBuilders.get("/api/v1/comment/task/{taskId}", requestId)
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk())
+                .andExpect(header().string(CommentController.HAS_MORE_HEADER, "false"))
+                .andExpect(header().doesNotExist(HttpHeaders.LINK))
                 .andExpect(content().json(mapper.writeValueAsString(List.of(response))));
     }
 
+    @Test
+    @SuppressWarnings("deprecation")
+    void getAllByTaskIdSignalsTruncatedThread() throws Exception {
+        long requestId = response.getTaskId();
+        when(commentService.getAllByTask(requestId)).thenReturn(SliceDtoResponse.<CommentDtoResponse>builder()
+                .content(List.of(response))
+                .size(100)
+                .hasNext(true)
+                .nextCursor(String.valueOf(response.getId()))
+                .build());
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/comment/task/{taskId}", requestId)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(CommentController.HAS_MORE_HEADER, "true"))
+                .andExpect(header().string(HttpHeaders.LINK,
+                        "<http://localhost/api/v1/comment/task/%d/scroll?cursor=%d&size=100>; rel=\"next\""
+                                .formatted(requestId, response.getId())))
+                .andExpect(content().json(mapper.writeValueAsString(List.of(response))));
+    }
+
+    @Test
+    void getAllByTaskIdByCursor() throws Exception {
+        long requestId = response.getTaskId();
+        SliceDtoResponse<CommentDtoResponse> comments = SliceDtoResponse.<CommentDtoResponse>builder()
+                .content(List.of(response))
+                .size(1)
+                .hasNext(true)
+                .nextCursor(String.valueOf(response.getId()))
+                .build();
+        when(commentService.getAllByTask(requestId, 5L, 1)).thenReturn(comments);
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/comment/task/{taskId}/scroll", requestId)
+                        .param("cursor", "5")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().json(mapper.writeValueAsString(comments)));
+    }
+
     @Test
     void update() throws Exception {
         long requestId = response.getId();
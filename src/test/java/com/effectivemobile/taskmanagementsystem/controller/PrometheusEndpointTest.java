@@ -0,0 +1,78 @@
+package com.effectivemobile.taskmanagementsystem.controller;
+
+import com.effectivemobile.taskmanagementsystem.security.JwtService;
+import com.effectivemobile.taskmanagementsystem.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@DisplayName("Метрики фаз запроса в формате Prometheus")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class PrometheusEndpointTest {
+    private static final String ADMIN_EMAIL = "testAdmin@gmail.com";
+
+    private static final String USER_EMAIL = "testUser@gmail.com";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserService userService;
+
+    private String adminAuthorization;
+
+    @BeforeEach
+    void setUp() {
+        adminAuthorization = bearer(ADMIN_EMAIL);
+    }
+
+    @Test
+    void prometheusExposesTimersOfEveryRequestPhase() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/task")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(status().isOk());
+
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, adminAuthorization))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("request_phase_seconds_count{application=\"task-management-system\","
+                                + "operation=\"jwt\",phase=\"authentication\"}"),
+                        containsString("operation=\"task.getAll\",phase=\"authorization\""),
+                        containsString("task_dao_query_seconds_count"),
+                        containsString("dto_mapping_seconds_count"),
+                        containsString("http_server_requests_seconds_bucket"),
+                        containsString("hikaricp_connections_active"),
+                        containsString("hibernate_statements_total"))));
+    }
+
+    @Test
+    void prometheusIsForbiddenForUser() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/actuator/prometheus")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(status().isForbidden());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userService.getUserByEmail(email));
+    }
+}
@@ -1,9 +1,13 @@
 package com.effectivemobile.taskmanagementsystem.controller;
 
+import com.effectivemobile.taskmanagementsystem.config.RequestPhaseMetrics;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskStatusBulkUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.security.JwtRevocationChecker;
 import com.effectivemobile.taskmanagementsystem.security.JwtService;
 import com.effectivemobile.taskmanagementsystem.security.SecurityConfig;
+import com.effectivemobile.taskmanagementsystem.security.VerifiedTokenCache;
 import com.effectivemobile.taskmanagementsystem.security.filter.JwtAuthenticationFilter;
 import com.effectivemobile.taskmanagementsystem.util.Role;
 import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
@@ -41,13 +45,17 @@ import java.util.stream.Stream;
 
 import static java.util.Objects.nonNull;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.doThrow;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(value = TaskController.class)
-@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtService.class})
+@Import({SecurityConfig.class, JwtAuthenticationFilter.class, JwtService.class, JwtRevocationChecker.class,
+        VerifiedTokenCache.class, RequestPhaseMetrics.class})
 @DisplayName("Тест безопасности эндпоинтов контроллера для работы с комментами")
 public class TaskControllerSecurityTest {
     private static final GrantedAuthority[] USER_ROLES =
@@ -80,8 +88,17 @@ public class TaskControllerSecurityTest {
     void stubbing() {
         doThrow(new ResponseStatusException(HttpStatus.CREATED))
                 .when(taskController).create(any(TaskDtoCreateRequest.class));
+        doThrow(new ResponseStatusException(HttpStatus.CREATED))
+                .when(taskController).createAll(anyList());
+        doThrow(new ResponseStatusException(HttpStatus.OK))
+                .when(taskController).getAll(any(), any(), any(), any(), any(), any(), any(Pageable.class));
+        doThrow(new ResponseStatusException(HttpStatus.OK))
+                .when(taskController).getAllSummaries(any(), any(), any(), any(), any(), anyBoolean(),
+                        any(Pageable.class));
         doThrow(new ResponseStatusException(HttpStatus.OK))
-                .when(taskController).getAll(any(), any(), any(), any(), any(Pageable.class));
+                .when(taskController).export(any(), any(), any(), any(), any());
+        doThrow(new ResponseStatusException(HttpStatus.OK))
+                .when(taskController).getAllByCursor(any(), any(), any(), any(), any(), any(), any(), anyInt());
         doThrow(new ResponseStatusException(HttpStatus.OK))
                 .when(taskController).get(anyLong());
         doThrow(new ResponseStatusException(HttpStatus.OK))
@@ -90,6 +107,8 @@ public class TaskControllerSecurityTest {
                 .when(taskController).update(any(TaskDtoUpdateRequest.class));
         doThrow(new ResponseStatusException(HttpStatus.OK))
                 .when(taskController).update(anyLong(), any(TaskStatus.class));
+        doThrow(new ResponseStatusException(HttpStatus.OK))
+                .when(taskController).updateAllStatus(any(TaskStatusBulkUpdateRequest.class));
     }
 
     @DisplayName("should return expected status")
@@ -135,9 +154,14 @@ public class TaskControllerSecurityTest {
         List<Arguments> args = new ArrayList<>();
         addArgsForGet(args);
         addArgsForGetAll(args);
+        addArgsForGetAllSummaries(args);
+        addArgsForGetAllByCursor(args);
+        addArgsForExport(args);
         addArgsForCreate(args);
+        addArgsForCreateAll(args);
         addArgsForUpdate(args);
         addArgsForStatusUpdate(args);
+        addArgsForBulkStatusUpdate(args);
         addArgsForDelete(args);
 
         return args.stream();
@@ -163,6 +187,36 @@ public class TaskControllerSecurityTest {
                         Map.of(), Strings.EMPTY, null, null, 403)));
     }
 
+    private static void addArgsForGetAllSummaries(List<Arguments> args) {
+        args.addAll(List.of(
+                Arguments.of("get", "/api/v1/task/summary",
+                        Map.of(), Strings.EMPTY, "user", USER_ROLES, 200),
+                Arguments.of("get", "/api/v1/task/summary",
+                        Map.of(), Strings.EMPTY, "admin", ADMIN_ROLES, 200),
+                Arguments.of("get", "/api/v1/task/summary",
+                        Map.of(), Strings.EMPTY, null, null, 403)));
+    }
+
+    private static void addArgsForGetAllByCursor(List<Arguments> args) {
+        args.addAll(List.of(
+                Arguments.of("get", "/api/v1/task/scroll",
+                        Map.of(), Strings.EMPTY, "user", USER_ROLES, 200),
+                Arguments.of("get", "/api/v1/task/scroll",
+                        Map.of(), Strings.EMPTY, "admin", ADMIN_ROLES, 200),
+                Arguments.of("get", "/api/v1/task/scroll",
+                        Map.of(), Strings.EMPTY, null, null, 403)));
+    }
+
+    private static void addArgsForExport(List<Arguments> args) {
+        args.addAll(List.of(
+                Arguments.of("get", "/api/v1/task/export",
+                        Map.of(), Strings.EMPTY, "user", USER_ROLES, 403),
+                Arguments.of("get", "/api/v1/task/export",
+                        Map.of(), Strings.EMPTY, "admin", ADMIN_ROLES, 200),
+                Arguments.of("get", "/api/v1/task/export",
+                        Map.of(), Strings.EMPTY, null, null, 403)));
+    }
+
     private static void addArgsForCreate(List<Arguments> args) throws Exception {
         TaskDtoCreateRequest task = TaskDtoCreateRequest.builder()
                 .title("title")
@@ -184,6 +238,27 @@ public class TaskControllerSecurityTest {
                         Map.of(), content, null, null, 403)));
     }
 
+    private static void addArgsForCreateAll(List<Arguments> args) throws Exception {
+        TaskDtoCreateRequest task = TaskDtoCreateRequest.builder()
+                .title("title")
+                .description("description")
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.COMPLETED)
+                .authorId(1L)
+                .implementorId(2L)
+                .build();
+
+        String content = mapper.writeValueAsString(List.of(task, task));
+
+        args.addAll(List.of(
+                Arguments.of("post", "/api/v1/task/batch",
+                        Map.of(), content, "user", USER_ROLES, 403),
+                Arguments.of("post", "/api/v1/task/batch",
+                        Map.of(), content, "admin", ADMIN_ROLES, 201),
+                Arguments.of("post", "/api/v1/task/batch",
+                        Map.of(), content, null, null, 403)));
+    }
+
     private static void addArgsForUpdate(List<Arguments> args) throws Exception {
         TaskDtoUpdateRequest task = TaskDtoUpdateRequest.builder()
                 .id(1L)
@@ -218,6 +293,21 @@ public class TaskControllerSecurityTest {
                         params, Strings.EMPTY, null, null, 403)));
     }
 
+    private static void addArgsForBulkStatusUpdate(List<Arguments> args) throws Exception {
+        String content = mapper.writeValueAsString(TaskStatusBulkUpdateRequest.builder()
+                .status(TaskStatus.COMPLETED)
+                .ids(List.of(1L, 2L))
+                .build());
+
+        args.addAll(List.of(
+                Arguments.of("put", "/api/v1/task/status/bulk",
+                        Map.of(), content, "user", USER_ROLES, 200),
+                Arguments.of("put", "/api/v1/task/status/bulk",
+                        Map.of(), content, "admin", ADMIN_ROLES, 200),
+                Arguments.of("put", "/api/v1/task/status/bulk",
+                        Map.of(), content, null, null, 403)));
+    }
+
     private static void addArgsForDelete(List<Arguments> args) {
         args.addAll(List.of(
                 Arguments.of("delete", "/api/v1/task/1",
@@ -2,10 +2,17 @@ package com.effectivemobile.taskmanagementsystem.controller;
 
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskStatusBulkUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskBatchItemDtoResponse;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
 import com.effectivemobile.taskmanagementsystem.security.filter.JwtAuthenticationFilter;
 import com.effectivemobile.taskmanagementsystem.service.TaskService;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
+import com.effectivemobile.taskmanagementsystem.util.ExportFormat;
 import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
 import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -20,17 +27,31 @@ import org.springframework.context.annotation.FilterType;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = {TaskController.class},
@@ -82,7 +103,7 @@ class TaskControllerTest {
                 PageRequest.of(1, 1),
                 1L);
         when(taskService.getAll(any(), any(), any(),
-                any(), any(Pageable.class))).thenReturn(tasks);
+                any(), any(Pageable.class), eq(CountMode.EXACT))).thenReturn(tasks);
 
         mvc.perform(MockMvcRequestBuilders.get("/api/v1/task")
                         .accept(MediaType.APPLICATION_JSON))
@@ -91,6 +112,106 @@ class TaskControllerTest {
                 .andExpect(content().json(mapper.writeValueAsString(tasks)));
     }
 
+    @Test
+    void getAllWithoutCount() throws Exception {
+        SliceImpl<TaskDtoResponse> tasks = new SliceImpl<>(
+                List.of(response),
+                PageRequest.of(0, 1),
+                true);
+        when(taskService.getAll(any(), any(), any(),
+                any(), any(Pageable.class), eq(CountMode.NONE))).thenReturn(tasks);
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/task")
+                        .param("count", "NONE")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(mapper.writeValueAsString(tasks)));
+    }
+
+    @Test
+    void getAllByText() throws Exception {
+        PageImpl<TaskDtoResponse> tasks = new PageImpl<>(
+                List.of(response),
+                PageRequest.of(0, 20),
+                1L);
+        when(taskService.getAllByText(any(), any(), any(),
+                any(), eq("task title"), any(Pageable.class), eq(CountMode.EXACT))).thenReturn(tasks);
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/task")
+                        .param("q", "task title")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(mapper.writeValueAsString(tasks)));
+    }
+
+    @Test
+    void getAllSummaries() throws Exception {
+        PageImpl<TaskSummaryDtoResponse> tasks = new PageImpl<>(
+                List.of(TaskSummaryDtoResponse.builder()
+                        .id(1L)
+                        .title("title")
+                        .status(TaskStatus.IN_STAY)
+                        .priority(TaskPriority.HIGH)
+                        .authorId(1L)
+                        .implementorId(2L)
+                        .commentCount(3L)
+                        .build()),
+                PageRequest.of(0, 1),
+                1L);
+        when(taskService.getAllSummaries(any(), any(), any(), any(), any(Pageable.class),
+                eq(CountMode.EXACT), eq(true))).thenReturn(tasks);
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/task/summary")
+                        .param("withCommentCount", "true")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(mapper.writeValueAsString(tasks)));
+    }
+
+    @Test
+    void getAllByCursor() throws Exception {
+        SliceDtoResponse<TaskDtoResponse> tasks = SliceDtoResponse.<TaskDtoResponse>builder()
+                .content(List.of(response))
+                .size(1)
+                .hasNext(true)
+                .nextCursor("cursor")
+                .build();
+        when(taskService.getAllByCursor(any(), any(), any(), any(), eq("previous"),
+                eq(TaskSortKey.PRIORITY), eq(Sort.Direction.DESC), eq(1))).thenReturn(tasks);
+
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/task/scroll")
+                        .param("cursor", "previous")
+                        .param("sortBy", "PRIORITY")
+                        .param("direction", "DESC")
+                        .param("size", "1")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(mapper.writeValueAsString(tasks)));
+    }
+
+    @Test
+    void export() throws Exception {
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(5).write("id,title\n1,title\n".getBytes(StandardCharsets.UTF_8));
+            return null;
+        }).when(taskService).export(any(), any(), any(), any(), eq(ExportFormat.CSV), any(OutputStream.class));
+
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.get("/api/v1/task/export")
+                        .param("format", "CSV"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv"))
+                .andExpect(header().string(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"tasks.csv\""))
+                .andExpect(content().string("id,title\n1,title\n"));
+    }
+
     @Test
     void create() throws Exception {
         when(taskService.create(any(TaskDtoCreateRequest.class))).thenReturn(response);
@@ -112,6 +233,67 @@ class TaskControllerTest {
                 .andExpect(content().json(mapper.writeValueAsString(response)));
     }
 
+    @Test
+    void createNegativeWhenPriorityIsMissing() throws Exception {
+        TaskDtoCreateRequest request = TaskDtoCreateRequest.builder()
+                .title(response.getTitle())
+                .description(response.getDescription())
+                .status(response.getStatus())
+                .authorId(response.getAuthorId())
+                .implementorId(response.getImplementorId())
+                .build();
+
+        mvc.perform(MockMvcRequestBuilders.post("/api/v1/task")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(taskService, never()).create(any());
+    }
+
+    @Test
+    void updateNegativeWhenStatusIsMissing() throws Exception {
+        TaskDtoUpdateRequest request = TaskDtoUpdateRequest.builder()
+                .id(response.getId())
+                .title(response.getTitle())
+                .description(response.getDescription())
+                .priority(response.getPriority())
+                .authorId(response.getAuthorId())
+                .implementorId(response.getImplementorId())
+                .build();
+
+        mvc.perform(MockMvcRequestBuilders.put("/api/v1/task")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+        verify(taskService, never()).update(any(TaskDtoUpdateRequest.class));
+    }
+
+    @Test
+    void createAll() throws Exception {
+        List<TaskBatchItemDtoResponse> results = List.of(
+                TaskBatchItemDtoResponse.builder().index(0).id(11L).build(),
+                TaskBatchItemDtoResponse.builder().index(1).error("User with id = 100 is not found").build());
+        when(taskService.createAll(anyList())).thenReturn(results);
+        TaskDtoCreateRequest request = TaskDtoCreateRequest.builder()
+                .title(response.getTitle())
+                .description(response.getDescription())
+                .priority(response.getPriority())
+                .status(response.getStatus())
+                .authorId(response.getAuthorId())
+                .implementorId(response.getImplementorId())
+                .build();
+
+        mvc.perform(MockMvcRequestBuilders.post("/api/v1/task/batch")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(List.of(request, request))))
+                .andExpect(status().isCreated())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(content().json(mapper.writeValueAsString(results)));
+    }
+
     @Test
     void update() throws Exception {
         when(taskService.update(any(TaskDtoUpdateRequest.class))).thenReturn(response);
@@ -149,6 +331,31 @@ class TaskControllerTest {
                 .andExpect(content().json(mapper.writeValueAsString(response)));
     }
 
+    @Test
+    void updateAllStatus() throws Exception {
+        TaskStatusBulkUpdateRequest request = TaskStatusBulkUpdateRequest.builder()
+                .status(TaskStatus.COMPLETED)
+                .ids(List.of(1L, 2L, 3L))
+                .build();
+        when(taskService.updateAllStatus(null, null, null, null, request.getIds(), TaskStatus.COMPLETED))
+                .thenReturn(List.of(1L, 2L));
+
+        mvc.perform(MockMvcRequestBuilders.put("/api/v1/task/status/bulk")
+                        .accept(MediaType.APPLICATION_JSON)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().json("[1, 2]"));
+    }
+
+    @Test
+    void updateAllStatusNegativeWithoutStatus() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.put("/api/v1/task/status/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ids\": [1]}"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void delete() throws Exception {
         long requestId = response.getId();
@@ -0,0 +1,63 @@
+package com.effectivemobile.taskmanagementsystem.controller;
+
+import com.effectivemobile.taskmanagementsystem.security.JwtService;
+import com.effectivemobile.taskmanagementsystem.service.UserService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@DisplayName("Потоковая выгрузка заданий через цепочку фильтров безопасности")
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class TaskExportSecurityTest {
+    private static final String ADMIN_EMAIL = "testAdmin@gmail.com";
+
+    private static final String USER_EMAIL = "testUser@gmail.com";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void exportIsStreamedToAdminAfterAsyncDispatch() throws Exception {
+        MvcResult result = mvc.perform(MockMvcRequestBuilders.get("/api/v1/task/export")
+                        .param("format", "CSV")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(ADMIN_EMAIL)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("id,title,description,priority,status")));
+    }
+
+    @Test
+    void exportIsForbiddenForUser() throws Exception {
+        mvc.perform(MockMvcRequestBuilders.get("/api/v1/task/export")
+                        .header(HttpHeaders.AUTHORIZATION, bearer(USER_EMAIL)))
+                .andExpect(status().isForbidden());
+    }
+
+    private String bearer(String email) {
+        return "Bearer " + jwtService.generateToken(userService.getUserByEmail(email));
+    }
+}
@@ -0,0 +1,75 @@
+package com.effectivemobile.taskmanagementsystem.dao;
+
+import com.effectivemobile.taskmanagementsystem.model.Comment;
+import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.model.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Task 1 gets 5 more comments on top of the test data, every other task keeps its single comment
+ */
+@DisplayName("Репозиторий комментариев: последние комментарии и курсорная выборка")
+@DataJpaTest
+class CommentDaoTest {
+    private static final long TASK_ID = 1L;
+
+    @Autowired
+    private CommentDao commentDao;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private List<Long> threadIds;
+
+    @BeforeEach
+    void addComments() {
+        Task task = entityManager.find(Task.class, TASK_ID);
+        User author = entityManager.find(User.class, 2L);
+        for (int i = 0; i < 5; i++) {
+            entityManager.persist(Comment.builder().text("comment " + i).task(task).author(author).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+        threadIds = commentDao.findAllByTaskIdAndIdGreaterThanOrderById(TASK_ID, 0L, Limit.unlimited()).stream()
+                .map(Comment::getId)
+                .toList();
+    }
+
+    @Test
+    void findLatestByTaskIdInLimitsEveryTask() {
+        final int limit = 3;
+
+        List<Comment> comments = commentDao.findLatestByTaskIdIn(List.of(TASK_ID, 2L), limit);
+
+        assertThat(comments).filteredOn(comment -> comment.getTask().getId() == TASK_ID)
+                .extracting(Comment::getId)
+                .containsExactlyElementsOf(threadIds.subList(threadIds.size() - limit, threadIds.size()));
+        assertThat(comments).filteredOn(comment -> comment.getTask().getId() == 2L).hasSize(1);
+        assertThat(comments).extracting(Comment::getId).isSorted();
+    }
+
+    @Test
+    void findAllByTaskIdAndIdGreaterThanPassesThroughThread() {
+        List<Long> visited = new ArrayList<>();
+        long after = 0;
+        List<Comment> slice;
+        do {
+            slice = commentDao.findAllByTaskIdAndIdGreaterThanOrderById(TASK_ID, after, Limit.of(4));
+            slice.forEach(comment -> visited.add(comment.getId()));
+            after = slice.isEmpty() ? after : slice.get(slice.size() - 1).getId();
+        } while (!slice.isEmpty());
+
+        assertThat(visited).isEqualTo(threadIds);
+    }
+}
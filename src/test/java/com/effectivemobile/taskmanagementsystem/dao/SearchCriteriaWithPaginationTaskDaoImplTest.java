@@ -1,32 +1,76 @@
 package com.effectivemobile.taskmanagementsystem.dao;
 
+import com.effectivemobile.taskmanagementsystem.config.CacheConfig;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskExportDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
+import com.effectivemobile.taskmanagementsystem.exception.InvalidSortException;
 import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
 import com.effectivemobile.taskmanagementsystem.util.SearchCriteria;
+import com.effectivemobile.taskmanagementsystem.util.TaskCursor;
 import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
 import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Import;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Stream;
 
+import static com.effectivemobile.taskmanagementsystem.util.SearchOperation.EQUAL;
+import static com.effectivemobile.taskmanagementsystem.util.SearchOperation.GREATER_OR_EQUAL;
+import static com.effectivemobile.taskmanagementsystem.util.SearchOperation.LESS_OR_EQUAL;
+import static com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute.AUTHOR;
+import static com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute.ID;
+import static com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute.IMPLEMENTOR;
+import static com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute.PRIORITY;
+import static com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute.STATUS;
+import static com.effectivemobile.taskmanagementsystem.util.TaskSearchAttribute.TITLE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DisplayName("Кастомный репозиторий для получения тасок с пагинацией и фильтрацией по критериям")
 @DataJpaTest
-@Import(SearchCriteriaWithPaginationTaskDaoImpl.class)
+@Import({SearchCriteriaWithPaginationTaskDaoImpl.class, CacheConfig.class})
 class SearchCriteriaWithPaginationTaskDaoImplTest {
     @Autowired
     private SearchCriteriaWithPaginationTaskDao criteriaDao;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCountCache() {
+        cacheManager.getCache(CacheConfig.TASK_COUNTS_CACHE).clear();
+    }
+
     @ParameterizedTest
     @MethodSource("getArguments")
     void findAll(SearchCriteria criteria, int expectedResultSize) {
@@ -37,11 +81,253 @@ class SearchCriteriaWithPaginationTaskDaoImplTest {
         assertEquals(1, tasks.getTotalPages());
     }
 
+    @Test
+    void findAllReusesPlanOfCriteriaShape() {
+        List<SearchCriteria> first = List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, 2L),
+                new SearchCriteria(STATUS, EQUAL, TaskStatus.IN_STAY));
+        List<SearchCriteria> second = List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, 3L),
+                new SearchCriteria(STATUS, EQUAL, TaskStatus.IN_PROCESS));
+
+        assertThat(TaskSearchPlan.of(second)).isSameAs(TaskSearchPlan.of(first));
+        assertThat(TaskSearchPlan.of(List.of(first.get(0)))).isNotSameAs(TaskSearchPlan.of(first));
+        assertThat(criteriaDao.findAll(first, PageRequest.of(0, 20)).getContent())
+                .extracting(Task::getId).containsExactly(1L, 10L);
+        assertThat(criteriaDao.findAll(second, PageRequest.of(0, 20)).getContent())
+                .extracting(Task::getId).containsExactly(2L);
+    }
+
+    @Test
+    void findAllWithoutCountReturnsSlice() {
+        Slice<Task> first = criteriaDao.findAll(List.of(), PageRequest.of(0, 4), CountMode.NONE);
+        Slice<Task> last = criteriaDao.findAll(List.of(), PageRequest.of(2, 4), CountMode.NONE);
+
+        assertThat(first).isNotInstanceOf(Page.class);
+        assertThat(first.getContent()).hasSize(4);
+        assertTrue(first.hasNext());
+        assertThat(last.getContent()).hasSize(2);
+        assertFalse(last.hasNext());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getTextArguments")
+    void findAllByTextRequiresEveryWord(String text, List<Long> expectedIds) {
+        Page<Task> tasks = (Page<Task>) criteriaDao.findAllByText(List.of(), text, PageRequest.of(0, 20),
+                CountMode.EXACT);
+
+        assertThat(tasks.getContent()).extracting(Task::getId).containsExactlyElementsOf(expectedIds);
+        assertEquals(expectedIds.size(), tasks.getTotalElements());
+    }
+
+    @Test
+    void findAllByTextAppliesCriteria() {
+        List<SearchCriteria> criteria = List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, 2L));
+
+        Page<Task> tasks = (Page<Task>) criteriaDao.findAllByText(criteria, "task", PageRequest.of(0, 20),
+                CountMode.APPROXIMATE);
+
+        assertThat(tasks.getContent()).extracting(Task::getId).containsExactly(1L, 10L);
+        assertEquals(2, tasks.getTotalElements());
+    }
+
+    @Test
+    void findAllByTextWithoutCountReturnsSlice() {
+        Slice<Task> first = criteriaDao.findAllByText(List.of(), "Task", PageRequest.of(0, 4), CountMode.NONE);
+        Slice<Task> last = criteriaDao.findAllByText(List.of(), "Task", PageRequest.of(2, 4), CountMode.NONE);
+
+        assertThat(first).isNotInstanceOf(Page.class);
+        assertThat(first.getContent()).extracting(Task::getId).containsExactly(1L, 2L, 3L, 4L);
+        assertTrue(first.hasNext());
+        assertThat(last.getContent()).extracting(Task::getId).containsExactly(9L, 10L);
+        assertFalse(last.hasNext());
+    }
+
+    @Test
+    void findAllWithApproximateCountWithoutCriteriaUsesTableStatistics() {
+        Slice<Task> tasks = criteriaDao.findAll(List.of(), PageRequest.of(0, 4), CountMode.APPROXIMATE);
+
+        assertThat(tasks).isInstanceOf(Page.class);
+        assertEquals(10, ((Page<Task>) tasks).getTotalElements());
+    }
+
+    @Test
+    void findAllWithApproximateCountCachesCountOfCriteria() {
+        final long implementorId = 2L;
+        List<SearchCriteria> criteria = List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, implementorId),
+                new SearchCriteria(AUTHOR, EQUAL, 1L));
+
+        Page<Task> first = (Page<Task>) criteriaDao.findAll(criteria, PageRequest.of(0, 1), CountMode.APPROXIMATE);
+        entityManager.persistAndFlush(Task.builder()
+                .title("New task")
+                .description("Description")
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.IN_STAY)
+                .author(entityManager.find(User.class, 1L))
+                .implementor(entityManager.find(User.class, implementorId))
+                .build());
+        Page<Task> cached = (Page<Task>) criteriaDao.findAll(List.of(criteria.get(1), criteria.get(0)), PageRequest.of(0, 1),
+                CountMode.APPROXIMATE);
+        Page<Task> exact = (Page<Task>) criteriaDao.findAll(criteria, PageRequest.of(0, 1), CountMode.EXACT);
+
+        assertEquals(2, first.getTotalElements());
+        assertEquals(2, cached.getTotalElements());
+        assertEquals(3, exact.getTotalElements());
+    }
+
+    @Test
+    void findAllSummariesSelectsProjection() {
+        final long implementorId = 2L;
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "id"));
+
+        Page<TaskSummaryDtoResponse> tasks = (Page<TaskSummaryDtoResponse>) criteriaDao.findAllSummaries(
+                List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, implementorId)), pageable, CountMode.EXACT, false);
+
+        assertEquals(2, tasks.getTotalElements());
+        assertThat(tasks.getContent()).extracting(TaskSummaryDtoResponse::getId).containsExactly(10L, 1L);
+        assertThat(tasks.getContent()).allSatisfy(task -> {
+            assertEquals(implementorId, task.getImplementorId());
+            assertEquals(1L, task.getAuthorId());
+            assertThat(task.getTitle()).isNotBlank();
+            assertThat(task.getStatus()).isNotNull();
+            assertThat(task.getPriority()).isNotNull();
+            assertThat(task.getCommentCount()).isNull();
+        });
+    }
+
+    @Test
+    void findAllSummariesWithCommentCount() {
+        Slice<TaskSummaryDtoResponse> tasks = criteriaDao.findAllSummaries(List.of(),
+                PageRequest.of(0, 4, Sort.by("id")), CountMode.NONE, true);
+
+        assertThat(tasks.getContent()).extracting(TaskSummaryDtoResponse::getCommentCount)
+                .containsExactly(1L, 1L, 1L, 1L);
+        assertTrue(tasks.hasNext());
+    }
+
+    @Test
+    void findAllSummariesSortsByNestedAttribute() {
+        Slice<TaskSummaryDtoResponse> tasks = criteriaDao.findAllSummaries(List.of(),
+                PageRequest.of(0, 20, Sort.by(Sort.Order.desc("implementor.id"), Sort.Order.asc("id"))),
+                CountMode.NONE, false);
+
+        assertThat(tasks.getContent()).extracting(TaskSummaryDtoResponse::getImplementorId)
+                .filteredOn(Objects::nonNull)
+                .isNotEmpty()
+                .isSortedAccordingTo(Comparator.reverseOrder());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"unknown", "author", "author.email", "comments"})
+    void findAllSummariesRejectsNotSortableProperty(String property) {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(property));
+
+        assertThrows(InvalidSortException.class,
+                () -> criteriaDao.findAllSummaries(List.of(), pageable, CountMode.EXACT, false));
+    }
+
+    @Test
+    void streamAllReadsTasksOfCriteriaInIdOrder() {
+        final long implementorId = 2L;
+
+        try (Stream<TaskExportDtoResponse> tasks = criteriaDao.streamAll(
+                List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, implementorId)), 1)) {
+            assertThat(tasks.toList()).extracting(TaskExportDtoResponse::getId).containsExactly(1L, 10L);
+        }
+    }
+
+    @Test
+    void updateStatusOfIdsSkipsTasksAlreadyInStatus() {
+        List<Long> updated = criteriaDao.updateStatus(List.of(), List.of(1L, 2L, 3L), TaskStatus.COMPLETED);
+        entityManager.clear();
+
+        assertThat(updated).containsExactly(1L, 2L);
+        assertThat(List.of(1L, 2L, 3L)).allSatisfy(id ->
+                assertEquals(TaskStatus.COMPLETED, entityManager.find(Task.class, id).getStatus()));
+    }
+
+    @Test
+    void updateStatusAppliesCriteria() {
+        List<SearchCriteria> criteria = List.of(
+                new SearchCriteria(IMPLEMENTOR, EQUAL, 2L),
+                new SearchCriteria(STATUS, EQUAL, TaskStatus.IN_STAY.name()));
+
+        List<Long> updated = criteriaDao.updateStatus(criteria, null, TaskStatus.IN_PROCESS);
+        entityManager.clear();
+
+        assertThat(updated).containsExactly(1L, 10L);
+        assertEquals(TaskStatus.IN_PROCESS, entityManager.find(Task.class, 10L).getStatus());
+        assertEquals(TaskStatus.IN_STAY, entityManager.find(Task.class, 4L).getStatus());
+    }
+
+    @Test
+    void updateStatusOfIdsAppliesCriteria() {
+        List<Long> updated = criteriaDao.updateStatus(List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, 2L)),
+                List.of(1L, 4L), TaskStatus.COMPLETED);
+        entityManager.clear();
+
+        assertThat(updated).containsExactly(1L);
+        assertEquals(TaskStatus.IN_STAY, entityManager.find(Task.class, 4L).getStatus());
+    }
+
+    @ParameterizedTest
+    @MethodSource("getKeysetArguments")
+    void findAllByCursorVisitsEveryTaskOnceInOrder(TaskSortKey sortKey, Sort.Direction direction) {
+        List<Task> all = criteriaDao.findAll(List.of(), PageRequest.of(0, 100)).getContent();
+        // enums are stored as strings, so the database orders them by name
+        Comparator<Task> order = Comparator.comparing(sortKey::extract,
+                Comparator.nullsFirst(Comparator.<String>naturalOrder())).thenComparing(Task::getId);
+        List<Long> expected = all.stream()
+                .sorted(direction.isAscending() ? order : order.reversed())
+                .map(Task::getId)
+                .toList();
+
+        List<Long> visited = new ArrayList<>();
+        TaskCursor cursor = null;
+        Slice<Task> slice;
+        do {
+            slice = criteriaDao.findAll(List.of(), cursor, sortKey, direction, 3);
+            slice.getContent().forEach(task -> visited.add(task.getId()));
+            Task last = slice.getContent().get(slice.getNumberOfElements() - 1);
+            cursor = new TaskCursor(sortKey, direction, sortKey.extract(last), last.getId());
+        } while (slice.hasNext());
+
+        assertEquals(expected, visited);
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSortKey.class)
+    void findAllByCursorAppliesCriteria(TaskSortKey sortKey) {
+        final long implementorId = 2L;
+
+        Slice<Task> tasks = criteriaDao.findAll(List.of(new SearchCriteria(IMPLEMENTOR, EQUAL, implementorId)),
+                null, sortKey, Sort.Direction.ASC, 20);
+
+        assertEquals(2, tasks.getNumberOfElements());
+        assertFalse(tasks.hasNext());
+    }
+
+    private static Stream<Arguments> getKeysetArguments() {
+        return Stream.of(TaskSortKey.values())
+                .flatMap(sortKey -> Stream.of(Sort.Direction.values())
+                        .map(direction -> Arguments.of(sortKey, direction)));
+    }
+
+    private static Stream<Arguments> getTextArguments() {
+        return Stream.of(
+                Arguments.of("task 1", List.of(1L, 10L)),
+                Arguments.of("DESCRIPTION 5", List.of(5L)),
+                Arguments.of("10", List.of(10L)),
+                Arguments.of("task%", List.of()),
+                Arguments.of("task_1", List.of()));
+    }
+
     private static Stream<Arguments> getArguments() {
         return Stream.of(
-                Arguments.of(new SearchCriteria("author", ":", 1), 10),
-                Arguments.of(new SearchCriteria("implementor", ":", 2), 2),
-                Arguments.of(new SearchCriteria("status", ":", TaskStatus.IN_PROCESS), 3),
-                Arguments.of(new SearchCriteria("priority", ":", TaskPriority.MIDDLE), 3));
+                Arguments.of(new SearchCriteria(AUTHOR, EQUAL, 1), 10),
+                Arguments.of(new SearchCriteria(IMPLEMENTOR, EQUAL, 2), 2),
+                Arguments.of(new SearchCriteria(STATUS, EQUAL, TaskStatus.IN_PROCESS), 3),
+                Arguments.of(new SearchCriteria(PRIORITY, EQUAL, TaskPriority.MIDDLE), 3),
+                Arguments.of(new SearchCriteria(TITLE, EQUAL, "Task 1"), 2),
+                Arguments.of(new SearchCriteria(ID, GREATER_OR_EQUAL, 9L), 2),
+                Arguments.of(new SearchCriteria(ID, LESS_OR_EQUAL, "2"), 2));
     }
 }
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.effectivemobile.taskmanagementsystem.dao;
+
+import com.effectivemobile.taskmanagementsystem.model.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Кэш второго уровня Hibernate для пользователей")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.region.factory_class=jcache",
+        "spring.jpa.properties.hibernate.javax.cache.provider=org.ehcache.jsr107.EhcacheCachingProvider",
+        "spring.jpa.properties.hibernate.javax.cache.uri=ehcache.xml",
+        "spring.jpa.properties.hibernate.javax.cache.missing_cache_strategy=fail",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Transactional(propagation = Propagation.NEVER)
+class SecondLevelCacheTest {
+    private static final String EMAIL = "testUser@gmail.com";
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictAllRegions();
+        statistics = sessionFactory.getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findByEmailIsResolvedFromNaturalIdAndEntityCache() {
+        User first = userDao.findByEmail(EMAIL).orElseThrow();
+        long queries = statistics.getPrepareStatementCount();
+
+        User second = userDao.findByEmail(EMAIL).orElseThrow();
+
+        assertThat(second.getId()).isEqualTo(first.getId());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(queries);
+        assertThat(statistics.getNaturalIdCacheHitCount()).isPositive();
+        assertThat(statistics.getDomainDataRegionStatistics("user").getHitCount()).isPositive();
+    }
+}
@@ -0,0 +1,95 @@
+package com.effectivemobile.taskmanagementsystem.dao;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks on a seeded large dataset that the query shapes of the task search and of the comment lookup
+ * are served by the indexes from the task-search-indexes changeset. The dataset is committed once
+ * (ANALYZE commits anyway) and dropped together with the context after the class.
+ * H2 indexes foreign keys on its own, so for single-column FK lookups only the absence of a table scan
+ * is checked, PostgreSQL relies on the changeset indexes there.
+ */
+@DisplayName("Планы запросов поиска заданий и комментариев используют индексы")
+@DataJpaTest
+@Transactional(propagation = Propagation.NEVER)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_CLASS)
+class TaskSearchIndexExplainTest {
+    private static final int TASKS = 20_000;
+
+    private static final int USERS = 10;
+
+    private static final String[] STATUSES = {"IN_STAY", "IN_PROCESS", "COMPLETED"};
+
+    private static final String[] PRIORITIES = {"HIGH", "MIDDLE", "LOW"};
+
+    private static boolean seeded;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        if (seeded) {
+            return;
+        }
+        List<Object[]> tasks = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            tasks.add(new Object[]{"Task " + i, "Description " + i, PRIORITIES[i % 3], STATUSES[i / 3 % 3],
+                    i % USERS + 1, i / USERS % USERS + 1});
+        }
+        jdbcTemplate.batchUpdate("insert into tasks (title, description, priority, status, author_id, implementor_id) "
+                + "values (?, ?, ?, ?, ?, ?)", tasks);
+        jdbcTemplate.update("insert into comments (text, author_id, task_id) "
+                + "select concat('Comment ', id), implementor_id, id from tasks");
+        jdbcTemplate.execute("analyze");
+        seeded = true;
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("getArguments")
+    void queryUsesIndex(String query, String expectedIndex) {
+        String plan = String.join("\n", jdbcTemplate.queryForList("explain " + query, String.class));
+
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+        if (expectedIndex != null) {
+            assertThat(plan).containsIgnoringCase(expectedIndex);
+        }
+    }
+
+    private static Stream<Arguments> getArguments() {
+        return Stream.of(
+                Arguments.of("select * from tasks where implementor_id = 2 and status = 'IN_STAY' "
+                        + "and priority = 'HIGH' order by id", "tasks_implementor_status_priority_id_idx"),
+                Arguments.of("select count(*) from tasks where implementor_id = 2 and status = 'IN_STAY'",
+                        "tasks_implementor_status_"),
+                Arguments.of("select * from tasks where author_id = 3 and status = 'COMPLETED' "
+                        + "and priority = 'LOW' order by id", "tasks_author_status_priority_id_idx"),
+                Arguments.of("select * from tasks where status = 'IN_PROCESS' and priority = 'MIDDLE' order by id",
+                        "tasks_status_priority_id_idx"),
+                Arguments.of("select * from tasks where priority = 'MIDDLE' order by id", "tasks_priority_id_idx"),
+                Arguments.of("select * from tasks where status >= 'IN_PROCESS' and (status > 'IN_PROCESS' or id > 500) "
+                        + "order by status, id limit 20", "tasks_status_id_idx"),
+                Arguments.of("select * from tasks where implementor_id = 2 and priority <= 'LOW' "
+                        + "and (priority < 'LOW' or id < 500) order by priority desc, id desc limit 20",
+                        "tasks_implementor_priority_id_idx"),
+                Arguments.of("select * from comments where task_id = 5", null),
+                Arguments.of("select * from comments where task_id = 5 and id > 100 order by id limit 20", null),
+                Arguments.of("select count(*) from comments where author_id = 5", null));
+    }
+}
@@ -0,0 +1,158 @@
+package com.effectivemobile.taskmanagementsystem.loadtest;
+
+import com.effectivemobile.taskmanagementsystem.Main;
+import com.effectivemobile.taskmanagementsystem.dto.request.auth.SignInRequest;
+import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.ThreadParams;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scenarios of the load test over HTTP through the whole stack: JWT filter, aspects, services, Hibernate.
+ * The application runs on an in-memory H2 database created and seeded by the Liquibase changelog (users
+ * user2..user10@example.com, each the implementor of one task). Every benchmark thread is one client
+ * signed in as one of these users. Run by {@link LoadTestRunner}
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 10)
+@State(Scope.Benchmark)
+public class ApiLoadBenchmark {
+    private static final String PASSWORD = "password";
+
+    private static final int USERS = 9;
+
+    private static final TaskStatus[] STATUSES = TaskStatus.values();
+
+    private ConfigurableApplicationContext context;
+
+    private HttpClient client;
+
+    private ObjectMapper objectMapper;
+
+    private String baseUrl;
+
+    /**
+     * Signed in user of a benchmark thread and the task the user implements
+     */
+    @State(Scope.Thread)
+    public static class Client {
+        private long userId;
+
+        private String email;
+
+        private long taskId;
+
+        private String authorization;
+
+        @Setup
+        public void signIn(ApiLoadBenchmark app, ThreadParams threadParams) throws IOException, InterruptedException {
+            userId = threadParams.getThreadIndex() % USERS + 2;
+            email = "user" + userId + "@example.com";
+            taskId = userId - 1;
+            String body = app.send(app.signInRequest(email), null);
+            authorization = "Bearer " + app.objectMapper.readTree(body).get("accessToken").asText();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(Main.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:loadtest",
+                        "--spring.sql.init.mode=never",
+                        "--spring.liquibase.enabled=true",
+                        //sign-ins wait for a hashing thread instead of getting 503, their latency is measured
+                        "--application.security.password-hashing.queue-capacity=100000",
+                        "--spring.jpa.show-sql=false", "--logging.level.root=warn", "--logging.level.web=warn");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/api/v1";
+        objectMapper = context.getBean(ObjectMapper.class);
+        client = HttpClient.newHttpClient();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String signIn(Client user) throws IOException, InterruptedException {
+        return send(signInRequest(user.email), null);
+    }
+
+    @Benchmark
+    public String listTasksByImplementor(Client user) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/task?implementorId=" + user.userId + "&size=20"))
+                .GET(), user.authorization);
+    }
+
+    @Benchmark
+    public String getTask(Client user) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/task/" + user.taskId)).GET(), user.authorization);
+    }
+
+    @Benchmark
+    public String postComment(Client user) throws IOException, InterruptedException {
+        CommentDtoCreateRequest comment = CommentDtoCreateRequest.builder()
+                .text("Load test comment")
+                .authorId(user.userId)
+                .taskId(user.taskId)
+                .build();
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + "/comment"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(comment))),
+                user.authorization);
+    }
+
+    @Benchmark
+    public String changeStatus(Client user) throws IOException, InterruptedException {
+        TaskStatus status = STATUSES[ThreadLocalRandom.current().nextInt(STATUSES.length)];
+        URI uri = URI.create(baseUrl + "/task/status?id=" + user.taskId + "&status=" + status);
+        return send(HttpRequest.newBuilder(uri).PUT(HttpRequest.BodyPublishers.noBody()), user.authorization);
+    }
+
+    private HttpRequest.Builder signInRequest(String email) throws IOException {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/sign-in"))
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        objectMapper.writeValueAsString(new SignInRequest(email, PASSWORD))));
+    }
+
+    /**
+     * @return body of the response
+     * @throws IllegalStateException if the status is not 2xx, the scenario fails instead of timing errors
+     */
+    private String send(HttpRequest.Builder request, String authorization) throws IOException, InterruptedException {
+        if (authorization != null) {
+            request.header(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        HttpResponse<String> response = client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("Unexpected status " + response.statusCode() + " of " + request.build());
+        }
+        return response.body();
+    }
+}
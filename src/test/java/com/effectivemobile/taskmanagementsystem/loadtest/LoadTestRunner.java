@@ -0,0 +1,38 @@
+package com.effectivemobile.taskmanagementsystem.loadtest;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+/**
+ * Runs the scenarios of {@link ApiLoadBenchmark} one after another with {@code loadtest.threads} concurrent
+ * clients: {@code mvn -B test-compile exec:exec -Pload-test [-Dloadtest.threads=64]
+ * [-Dloadtest.scenarios=signIn,getTask] [-Dloadtest.seconds=30]}.
+ * Reports per scenario the throughput (ops/ms), the latency percentiles p0.50..p0.999 of the sample time mode
+ * and the allocation rate ({@code gc.alloc.rate}, {@code gc.alloc.rate.norm} per request) of the JVM running
+ * both the application and the clients. The results are written to {@code target/load-test-result.json}
+ */
+public class LoadTestRunner {
+    public static void main(String[] args) throws RunnerException {
+        int threads = Integer.getInteger("loadtest.threads", 16);
+        String scenarios = System.getProperty("loadtest.scenarios", "");
+        TimeValue iterationTime = TimeValue.seconds(Long.getLong("loadtest.seconds", 10L));
+
+        Options options = new OptionsBuilder()
+                .include(ApiLoadBenchmark.class.getName()
+                        + (scenarios.isBlank() ? "" : "\\.(" + scenarios.replace(',', '|') + ")$"))
+                .threads(threads)
+                .forks(1)
+                .warmupTime(iterationTime)
+                .measurementTime(iterationTime)
+                .addProfiler(GCProfiler.class)
+                .resultFormat(ResultFormatType.JSON)
+                .result("target/load-test-result.json")
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -18,6 +18,7 @@ import java.util.List;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @SpringBootTest(classes = {TaskMapper.class, CommentMapper.class})
@@ -100,4 +101,22 @@ class TaskMapperTest {
         assertEquals(dto.getImplementorId(), task.getImplementor().getId());
         assertThat(dto.getComments()).isNotEmpty();
     }
-}
\ No newline at end of file
+
+    @Test
+    void convertToDtosWithSeparatelyLoadedComments() {
+        Task taskWithoutComments = Task.builder()
+                .id(2L)
+                .author(new User())
+                .implementor(new User())
+                .build();
+        when(commentMapper.convertToDtos(List.of(comment)))
+                .thenReturn(List.of(CommentDtoResponse.builder().id(1L).build()));
+
+        List<TaskDtoResponse> dtos = taskMapper.convertToDtos(List.of(task, taskWithoutComments), List.of(comment));
+
+        assertThat(dtos).hasSize(2);
+        assertThat(dtos.get(0).getComments()).hasSize(1);
+        assertThat(dtos.get(1).getComments()).isEmpty();
+        verify(commentMapper).convertToDtos(List.of(comment));
+    }
+}
@@ -0,0 +1,132 @@
+package com.effectivemobile.taskmanagementsystem.security;
+
+import com.effectivemobile.taskmanagementsystem.exception.PasswordHashingRejectedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+@DisplayName("Ограниченный пул хеширования паролей")
+class PasswordHashingExecutorTest {
+    private PasswordHashingExecutor executor;
+
+    private MeterRegistry registry;
+
+    private final CountDownLatch started = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        executor = new PasswordHashingExecutor(new PasswordHashingProperties(1, 1, 100));
+        registry = new SimpleMeterRegistry();
+        executor.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    void executeRejectsAtOnceWhenQueueIsFull() throws Exception {
+        CompletableFuture<String> running =
+                CompletableFuture.supplyAsync(() -> executor.execute("encode", this::block));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued =
+                CompletableFuture.supplyAsync(() -> executor.execute("encode", () -> "queued"));
+        awaitQueueDepth(1);
+
+        assertThrowsExactly(PasswordHashingRejectedException.class,
+                () -> executor.execute("matches", () -> "rejected"));
+        assertEquals(1.0, registry.get("auth.password.hashing.rejected").counter().count());
+
+        release.countDown();
+        assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void executeAllWaitsForFullQueueInsteadOfRejecting() throws Exception {
+        CompletableFuture<String> running =
+                CompletableFuture.supplyAsync(() -> executor.execute("encode", this::block));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<String> queued =
+                CompletableFuture.supplyAsync(() -> executor.execute("encode", () -> "queued"));
+        awaitQueueDepth(1);
+
+        CompletableFuture<List<String>> all = CompletableFuture.supplyAsync(
+                () -> executor.executeAll("encode", List.of("a", "b", "c"), String::toUpperCase));
+        release.countDown();
+
+        assertEquals(List.of("A", "B", "C"), all.get(5, TimeUnit.SECONDS));
+        assertEquals("hashed", running.get(5, TimeUnit.SECONDS));
+        assertEquals("queued", queued.get(5, TimeUnit.SECONDS));
+        assertEquals(0.0, registry.get("auth.password.hashing.rejected").counter().count());
+        assertEquals(5, registry.get("auth.password.hashing.time").tag("operation", "encode").timer().count());
+    }
+
+    @Test
+    void executeAllStopsWaitingWhenPoolIsShutDown() throws Exception {
+        CompletableFuture.supplyAsync(() -> executor.execute("encode", this::block));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.supplyAsync(() -> executor.execute("encode", () -> "queued"));
+        awaitQueueDepth(1);
+
+        CompletableFuture<List<String>> all = CompletableFuture.supplyAsync(
+                () -> executor.executeAll("encode", List.of("a", "b"), String::toUpperCase));
+        executor.destroy();
+
+        ExecutionException thrown = assertThrowsExactly(ExecutionException.class,
+                () -> all.get(5, TimeUnit.SECONDS));
+        assertThat(thrown.getCause()).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void executeRecordsHashTimeByOperation() {
+        assertEquals("hash", executor.execute("encode", () -> "hash"));
+        assertEquals(Boolean.TRUE, executor.execute("matches", () -> true));
+
+        assertEquals(1, registry.get("auth.password.hashing.time").tag("operation", "encode").timer().count());
+        assertEquals(1, registry.get("auth.password.hashing.time").tag("operation", "matches").timer().count());
+    }
+
+    @Test
+    void executeRethrowsExceptionOfOperation() {
+        assertThrowsExactly(IllegalArgumentException.class, () -> executor.execute("encode", () -> {
+            throw new IllegalArgumentException("rawPassword cannot be null");
+        }));
+    }
+
+    private String block() {
+        started.countDown();
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "hashed";
+    }
+
+    private void awaitQueueDepth(double depth) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (registry.get("auth.password.hashing.queue").gauge().value() < depth && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(depth, registry.get("auth.password.hashing.queue").gauge().value());
+    }
+}
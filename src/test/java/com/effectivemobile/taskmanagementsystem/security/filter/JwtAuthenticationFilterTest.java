@@ -0,0 +1,150 @@
+package com.effectivemobile.taskmanagementsystem.security.filter;
+
+import com.effectivemobile.taskmanagementsystem.config.RequestPhaseMetrics;
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.security.JwtProperties;
+import com.effectivemobile.taskmanagementsystem.security.JwtRevocationChecker;
+import com.effectivemobile.taskmanagementsystem.security.JwtService;
+import com.effectivemobile.taskmanagementsystem.security.VerifiedTokenCache;
+import com.effectivemobile.taskmanagementsystem.util.Role;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("Фильтр аутентификации в режиме stateless")
+@SpringBootTest(classes = {JwtAuthenticationFilter.class, JwtService.class, JwtRevocationChecker.class,
+        VerifiedTokenCache.class, RequestPhaseMetrics.class},
+        properties = "application.security.jwt.stateless=true")
+@EnableConfigurationProperties(JwtProperties.class)
+class JwtAuthenticationFilterTest {
+    private static final String EMAIL = "testUser@gmail.com";
+
+    @Autowired
+    private JwtAuthenticationFilter filter;
+
+    @SpyBean
+    private JwtService jwtService;
+
+    @MockBean
+    private UserDetailsService userDetailsService;
+
+    private final User user = User.builder()
+            .id(2L)
+            .email(EMAIL)
+            .password("password")
+            .role(Role.ROLE_USER)
+            .build();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void authenticatesFromClaimsAndChecksRevocationOncePerTtl() throws Exception {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(user);
+        String token = jwtService.generateToken(user);
+
+        doFilter(token);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        SecurityContextHolder.clearContext();
+        doFilter(token);
+
+        assertThat(authentication.getPrincipal()).isInstanceOf(User.class)
+                .hasFieldOrPropertyWithValue("id", user.getId())
+                .hasFieldOrPropertyWithValue("email", EMAIL)
+                .hasFieldOrPropertyWithValue("role", Role.ROLE_USER);
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    @Test
+    void verifiesSignatureOfRepeatedTokenOnlyOnce() throws Exception {
+        User cachedUser = User.builder().id(3L).email("cached@gmail.com").role(Role.ROLE_USER).build();
+        when(userDetailsService.loadUserByUsername(cachedUser.getEmail())).thenReturn(cachedUser);
+        String token = jwtService.generateToken(cachedUser);
+
+        for (int i = 0; i < 3; i++) {
+            SecurityContextHolder.clearContext();
+            doFilter(token);
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        }
+
+        verify(jwtService, times(1)).parseVerifiedClaims(token);
+    }
+
+    @Test
+    void rejectsTokenWhenRoleHasChanged() throws Exception {
+        when(userDetailsService.loadUserByUsername("changed@gmail.com")).thenReturn(
+                new org.springframework.security.core.userdetails.User("changed@gmail.com", "password",
+                        Set.of(new SimpleGrantedAuthority(Role.ROLE_USER.name()))));
+        User admin = User.builder().id(5L).email("changed@gmail.com").role(Role.ROLE_ADMIN).build();
+
+        doFilter(jwtService.generateToken(admin));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void rejectsTokenWhenUserWasRecreatedWithSameEmail() throws Exception {
+        User deleted = User.builder().id(6L).email("recreated@gmail.com").role(Role.ROLE_USER).build();
+        User recreated = User.builder().id(7L).email("recreated@gmail.com").role(Role.ROLE_USER).build();
+        when(userDetailsService.loadUserByUsername(recreated.getEmail())).thenReturn(recreated);
+        doFilter(jwtService.generateToken(recreated));
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        SecurityContextHolder.clearContext();
+
+        doFilter(jwtService.generateToken(deleted));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void rejectsTokenIssuedBeforeDemotionWhileUserIsConfirmed() throws Exception {
+        User demoted = User.builder().id(8L).email("demoted@gmail.com").role(Role.ROLE_USER).build();
+        User formerAdmin = User.builder().id(8L).email("demoted@gmail.com").role(Role.ROLE_ADMIN).build();
+        when(userDetailsService.loadUserByUsername(demoted.getEmail())).thenReturn(demoted);
+        doFilter(jwtService.generateToken(demoted));
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        SecurityContextHolder.clearContext();
+
+        doFilter(jwtService.generateToken(formerAdmin));
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    void fallsBackToDatabaseForTokensWithoutUserClaims() throws Exception {
+        when(userDetailsService.loadUserByUsername(EMAIL)).thenReturn(user);
+
+        doFilter(jwtService.generateRefreshToken(user));
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verify(userDetailsService, times(1)).loadUserByUsername(EMAIL);
+    }
+
+    private void doFilter(String token) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader(JwtAuthenticationFilter.HEADER_NAME, JwtAuthenticationFilter.BEARER_PREFIX + token);
+        filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+    }
+}
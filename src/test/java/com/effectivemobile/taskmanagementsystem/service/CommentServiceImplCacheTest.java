@@ -0,0 +1,132 @@
+package com.effectivemobile.taskmanagementsystem.service;
+
+import com.effectivemobile.taskmanagementsystem.config.CacheConfig;
+import com.effectivemobile.taskmanagementsystem.config.CaffeineCacheProperties;
+import com.effectivemobile.taskmanagementsystem.dao.CommentDao;
+import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
+import com.effectivemobile.taskmanagementsystem.mapper.CommentMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Policy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.transaction.TransactionAwareCacheDecorator;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest
+@Import({CommentServiceImpl.class, CommentMapper.class, UserServiceImpl.class, CacheConfig.class})
+@DisplayName("Кэширование комментариев к заданию")
+@Transactional(propagation = Propagation.NEVER)
+@SuppressWarnings("deprecation")
+class CommentServiceImplCacheTest {
+    private static final long TASK_ID = 1L;
+
+    @Autowired
+    private CommentService commentService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @SpyBean
+    private CommentDao commentDao;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfig.COMMENTS_CACHE).clear();
+    }
+
+    @Test
+    void getAllByTaskIsServedFromCache() {
+        List<CommentDtoResponse> first = commentService.getAllByTask(TASK_ID).getContent();
+        List<CommentDtoResponse> second = commentService.getAllByTask(TASK_ID).getContent();
+
+        assertThat(second).isEqualTo(first);
+        verify(commentDao, times(1)).findAllByTaskIdAndIdGreaterThanOrderById(TASK_ID, 0L,
+                Limit.of(CommentServiceImpl.MAX_SLICE_SIZE + 1));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void createEvictsCommentsOfTask() {
+        int before = commentService.getAllByTask(TASK_ID).getContent().size();
+
+        commentService.create(CommentDtoCreateRequest.builder()
+                .text("new comment")
+                .taskId(TASK_ID)
+                .authorId(2L)
+                .build());
+
+        assertThat(commentService.getAllByTask(TASK_ID).getContent()).hasSize(before + 1);
+        verify(commentDao, times(2)).findAllByTaskIdAndIdGreaterThanOrderById(TASK_ID, 0L,
+                Limit.of(CommentServiceImpl.MAX_SLICE_SIZE + 1));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void updateEvictsCommentsOfTask() {
+        long commentId = commentService.getAllByTask(TASK_ID).getContent().get(0).getId();
+
+        commentService.update(commentId, "updated comment text");
+
+        assertThat(commentService.getAllByTask(TASK_ID).getContent())
+                .anySatisfy(comment -> assertThat(comment.getText()).isEqualTo("updated comment text"));
+        verify(commentDao, times(2)).findAllByTaskIdAndIdGreaterThanOrderById(TASK_ID, 0L,
+                Limit.of(CommentServiceImpl.MAX_SLICE_SIZE + 1));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void deleteByIdEvictsCommentsOfTask() {
+        long commentId = commentService.getAllByTask(TASK_ID).getContent().get(0).getId();
+
+        commentService.deleteById(commentId);
+
+        assertThat(commentService.getAllByTask(TASK_ID).getContent())
+                .noneSatisfy(comment -> assertThat(comment.getId()).isEqualTo(commentId));
+        verify(commentDao, times(2)).findAllByTaskIdAndIdGreaterThanOrderById(TASK_ID, 0L,
+                Limit.of(CommentServiceImpl.MAX_SLICE_SIZE + 1));
+    }
+
+    @Test
+    void cacheIsBoundedByNumberOfComments() {
+        List<CommentDtoResponse> comments = commentService.getAllByTask(TASK_ID).getContent();
+
+        TransactionAwareCacheDecorator cache =
+                (TransactionAwareCacheDecorator) cacheManager.getCache(CacheConfig.COMMENTS_CACHE);
+        Cache<Object, Object> nativeCache =
+                ((CaffeineCache) cache.getTargetCache()).getNativeCache();
+        nativeCache.cleanUp();
+        Policy<Object, Object> policy = nativeCache.policy();
+        assertThat(policy.eviction()).hasValueSatisfying(eviction -> {
+            assertThat(eviction.isWeighted()).isTrue();
+            assertThat(eviction.weightedSize()).hasValue((long) comments.size());
+        });
+    }
+
+    @Test
+    void cacheWeighedByElementsMustBeBoundedByWeight() {
+        CaffeineCacheProperties properties = new CaffeineCacheProperties(
+                Map.of(CacheConfig.COMMENTS_CACHE, "maximumSize=100"), Set.of(CacheConfig.COMMENTS_CACHE));
+
+        assertThrowsExactly(IllegalStateException.class, () -> new CacheConfig().cacheManager(properties));
+    }
+}
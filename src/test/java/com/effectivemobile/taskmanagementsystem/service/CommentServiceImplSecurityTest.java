@@ -22,6 +22,8 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @DisplayName("Тест безопасности сервиса для работы с комментариями")
@@ -105,6 +107,7 @@ public class CommentServiceImplSecurityTest {
     @WithUserDetails(value = USER_EMAIL)
     void updateByUserSuccessfully() {
         final long userId = 2L;
+        when(commentDao.existsByIdAndAuthorId(userId, userId)).thenReturn(true);
         when(commentDao.findById(userId)).thenReturn(Optional.of(Comment.builder()
                 .author(User.builder()
                         .id(userId)
@@ -114,7 +117,8 @@ public class CommentServiceImplSecurityTest {
                 .thenReturn(Comment.builder().build());
         when(commentMapper.convertToDto(any(Comment.class)))
                 .thenReturn(CommentDtoResponse.builder()
-                        .authorId(userId).build());
+                        .authorId(userId)
+                        .taskId(1L).build());
 
         assertDoesNotThrow(() -> commentService.update(userId, "any"));
     }
@@ -123,17 +127,12 @@ public class CommentServiceImplSecurityTest {
     @WithUserDetails(value = USER_EMAIL)
     void updateByUserDeniedOnAnotherUserComment() {
         final long anotherUserCommentId = 3L;
-        when(commentDao.findById(anotherUserCommentId)).thenReturn(Optional.of(Comment.builder()
-                .author(User.builder()
-                        .id(anotherUserCommentId)
-                        .build())
-                .build()));
-        when(commentMapper.convertToDto(any(Comment.class)))
-                .thenReturn(CommentDtoResponse.builder()
-                        .authorId(anotherUserCommentId)
-                        .build());
+        final long userId = 2L;
+        when(commentDao.existsByIdAndAuthorId(anotherUserCommentId, userId)).thenReturn(false);
+        when(commentDao.existsById(anotherUserCommentId)).thenReturn(true);
 
         assertThrowsExactly(AttemptingAccessOtherUserEntityException.class,
                 () -> commentService.update(anotherUserCommentId, "any"));
+        verify(commentDao, never()).findById(anotherUserCommentId);
     }
 }
@@ -4,6 +4,7 @@ import com.effectivemobile.taskmanagementsystem.dao.CommentDao;
 import com.effectivemobile.taskmanagementsystem.dao.TaskDao;
 import com.effectivemobile.taskmanagementsystem.dto.request.comment.CommentDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.response.CommentDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
 import com.effectivemobile.taskmanagementsystem.exception.EntityNotFoundException;
 import com.effectivemobile.taskmanagementsystem.mapper.CommentMapper;
 import com.effectivemobile.taskmanagementsystem.model.Comment;
@@ -15,10 +16,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -65,14 +68,41 @@ class CommentServiceImplTest {
 
     @ParameterizedTest
     @ValueSource(longs = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10})
+    @SuppressWarnings("deprecation")
     void getAllByTask(long taskId) {
-        List<CommentDtoResponse> commentsTyTaskId = commentService.getAllByTask(taskId);
+        List<CommentDtoResponse> commentsTyTaskId = commentService.getAllByTask(taskId).getContent();
 
         assertThat(commentsTyTaskId).isNotNull()
                 .isNotEmpty()
                 .allSatisfy(commentDto ->
                         assertThat(commentDto.getTaskId()).isEqualTo(taskId));
-        verify(commentDao, times(1)).findAllByTaskId(taskId);
+        verify(commentDao, times(1)).findAllByTaskIdAndIdGreaterThanOrderById(taskId, 0L,
+                Limit.of(CommentServiceImpl.MAX_SLICE_SIZE + 1));
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void getAllByTaskByCursorPassesThroughThread() {
+        final long taskId = 1L;
+        for (int i = 0; i < 4; i++) {
+            commentService.create(CommentDtoCreateRequest.builder()
+                    .text("comment " + i)
+                    .taskId(taskId)
+                    .authorId(2L)
+                    .build());
+        }
+
+        List<Long> visited = new ArrayList<>();
+        Long cursor = null;
+        SliceDtoResponse<CommentDtoResponse> slice;
+        do {
+            slice = commentService.getAllByTask(taskId, cursor, 2);
+            slice.getContent().forEach(comment -> visited.add(comment.getId()));
+            cursor = slice.getNextCursor() == null ? null : Long.valueOf(slice.getNextCursor());
+        } while (slice.isHasNext());
+
+        assertThat(visited).hasSize(5).isSorted().doesNotHaveDuplicates();
+        assertThat(slice.getContent()).hasSize(1);
     }
 
     @Test
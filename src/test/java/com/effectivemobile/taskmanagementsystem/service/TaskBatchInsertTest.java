@@ -0,0 +1,90 @@
+package com.effectivemobile.taskmanagementsystem.service;
+
+import com.effectivemobile.taskmanagementsystem.dao.SearchCriteriaWithPaginationTaskDaoImpl;
+import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskBatchItemDtoResponse;
+import com.effectivemobile.taskmanagementsystem.mapper.CommentMapper;
+import com.effectivemobile.taskmanagementsystem.mapper.TaskMapper;
+import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 100 tasks of a batch take two blocks of the task sequence and go to the database in two JDBC batches
+ * of {@code hibernate.jdbc.batch_size} inserts, the single-insert path costs a statement per task
+ */
+@DisplayName("Пакетное создание заданий выполняется пакетами JDBC")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskServiceImpl.class, UserServiceImpl.class, TaskMapper.class, CommentMapper.class,
+        SearchCriteriaWithPaginationTaskDaoImpl.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NEVER)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class TaskBatchInsertTest {
+    private static final int TASKS = 100;
+
+    private static final int BATCH_SIZE = 50;
+
+    private static final TaskDtoCreateRequest TASK = TaskDtoCreateRequest.builder()
+            .title("title")
+            .description("description")
+            .priority(TaskPriority.LOW)
+            .status(TaskStatus.IN_STAY)
+            .authorId(1L)
+            .implementorId(2L)
+            .build();
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void createAllInsertsInJdbcBatches() {
+        List<TaskBatchItemDtoResponse> results = taskService.createAll(Collections.nCopies(TASKS, TASK));
+
+        assertThat(results).hasSize(TASKS).allSatisfy(result -> assertThat(result.getId()).isNotNull());
+        assertThat(results).extracting(TaskBatchItemDtoResponse::getId).doesNotHaveDuplicates();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TASKS);
+        //2 sequence calls, 1 query for the users, 1 insert statement per JDBC batch
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(1 + 2L * TASKS / BATCH_SIZE);
+    }
+
+    @Test
+    void createCostsStatementPerTask() {
+        for (int i = 0; i < TASKS; i++) {
+            taskService.create(TASK);
+        }
+
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(TASKS);
+        assertThat(statistics.getPrepareStatementCount()).isGreaterThan(TASKS);
+    }
+}
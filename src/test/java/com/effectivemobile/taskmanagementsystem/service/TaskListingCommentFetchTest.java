@@ -0,0 +1,99 @@
+package com.effectivemobile.taskmanagementsystem.service;
+
+import com.effectivemobile.taskmanagementsystem.dao.SearchCriteriaWithPaginationTaskDaoImpl;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
+import com.effectivemobile.taskmanagementsystem.mapper.CommentMapper;
+import com.effectivemobile.taskmanagementsystem.mapper.TaskMapper;
+import com.effectivemobile.taskmanagementsystem.model.Comment;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * All 10 test tasks have one comment each, a page of 2 tasks must load only the 2 comments of the page,
+ * the summaries load no entities at all
+ */
+@DisplayName("Комментарии страницы заданий загружаются одним запросом только для заданий страницы")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TaskServiceImpl.class, UserServiceImpl.class, TaskMapper.class, CommentMapper.class,
+        SearchCriteriaWithPaginationTaskDaoImpl.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NEVER)
+class TaskListingCommentFetchTest {
+    private static final int PAGE_SIZE = 2;
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void getAllLoadsCommentsOfPageOnly() {
+        List<TaskDtoResponse> tasks = taskService.getAll(null, null, null, null, PageRequest.of(0, PAGE_SIZE),
+                CountMode.EXACT).getContent();
+
+        assertPageCommentsLoaded(tasks);
+    }
+
+    @Test
+    void getAllWithoutCountLoadsCommentsOfPageOnly() {
+        Slice<TaskDtoResponse> tasks = taskService.getAll(null, null, null, null, PageRequest.of(1, PAGE_SIZE),
+                CountMode.NONE);
+
+        assertPageCommentsLoaded(tasks.getContent());
+    }
+
+    @Test
+    void getAllByCursorLoadsCommentsOfSliceOnly() {
+        List<TaskDtoResponse> tasks = taskService.getAllByCursor(null, null, null, null, null,
+                TaskSortKey.ID, Sort.Direction.ASC, PAGE_SIZE).getContent();
+
+        assertPageCommentsLoaded(tasks);
+    }
+
+    @Test
+    void getAllSummariesLoadsNoEntities() {
+        List<TaskSummaryDtoResponse> tasks = taskService.getAllSummaries(null, null, null, null,
+                PageRequest.of(0, PAGE_SIZE), CountMode.EXACT, true).getContent();
+
+        assertThat(tasks).hasSize(PAGE_SIZE).allSatisfy(task -> assertThat(task.getCommentCount()).isEqualTo(1L));
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+
+    private void assertPageCommentsLoaded(List<TaskDtoResponse> tasks) {
+        assertThat(tasks).hasSize(PAGE_SIZE).allSatisfy(task -> assertThat(task.getComments()).hasSize(1));
+        assertThat(statistics.getEntityStatistics(Comment.class.getName()).getLoadCount()).isEqualTo(PAGE_SIZE);
+        assertThat(statistics.getCollectionFetchCount()).isZero();
+    }
+}
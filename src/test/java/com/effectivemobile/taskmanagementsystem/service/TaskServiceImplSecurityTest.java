@@ -2,10 +2,14 @@ package com.effectivemobile.taskmanagementsystem.service;
 
 import com.effectivemobile.taskmanagementsystem.dao.SearchCriteriaWithPaginationTaskDao;
 import com.effectivemobile.taskmanagementsystem.dao.TaskDao;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskSummaryDtoResponse;
 import com.effectivemobile.taskmanagementsystem.exception.AttemptingAccessOtherUserEntityException;
 import com.effectivemobile.taskmanagementsystem.mapper.TaskMapper;
 import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
 import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,6 +22,7 @@ import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
@@ -25,11 +30,17 @@ import org.springframework.test.annotation.DirtiesContext;
 import java.util.List;
 import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -59,9 +70,10 @@ public class TaskServiceImplSecurityTest {
         final int expectedTasksSize = 10;
         Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
 
-        Page<TaskDtoResponse> tasks = taskService.getAll(null, null, null, null, pageable);
+        Page<TaskDtoResponse> tasks = (Page<TaskDtoResponse>) taskService.getAll(null, null, null, null, pageable,
+                CountMode.EXACT);
         assertEquals(expectedTasksSize, tasks.getTotalElements());
-        verify(criteriaDao, atLeastOnce()).findAll(any(List.class), any(Pageable.class));
+        verify(criteriaDao, atLeastOnce()).findAll(any(List.class), any(Pageable.class), eq(CountMode.EXACT));
     }
 
     /**
@@ -74,14 +86,14 @@ public class TaskServiceImplSecurityTest {
         final int expectedTasksSize = 2;
         Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
 
-        Page<TaskDtoResponse> tasks = taskService
-                .getAll(userId, null, null, null, pageable);
-        Page<TaskDtoResponse> tasksWithoutFilterByAuthor = taskService
-                .getAll(null, null, null, null, pageable);
+        Page<TaskDtoResponse> tasks = (Page<TaskDtoResponse>) taskService
+                .getAll(userId, null, null, null, pageable, CountMode.EXACT);
+        Page<TaskDtoResponse> tasksWithoutFilterByAuthor = (Page<TaskDtoResponse>) taskService
+                .getAll(null, null, null, null, pageable, CountMode.EXACT);
 
         assertEquals(expectedTasksSize, tasks.getTotalElements());
         assertEquals(expectedTasksSize, tasksWithoutFilterByAuthor.getTotalElements());
-        verify(criteriaDao, atLeastOnce()).findAll(any(List.class), any(Pageable.class));
+        verify(criteriaDao, atLeastOnce()).findAll(any(List.class), any(Pageable.class), eq(CountMode.EXACT));
     }
 
     @Test
@@ -91,7 +103,55 @@ public class TaskServiceImplSecurityTest {
         Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
 
         assertThrowsExactly(AttemptingAccessOtherUserEntityException.class,
-                () -> taskService.getAll(anotherUserId, null, null, null, pageable));
+                () -> taskService.getAll(anotherUserId, null, null, null, pageable, CountMode.EXACT));
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL)
+    void getAllByCursorByUserFilteredByImplementor() {
+        final int expectedTasksSize = 2;
+        when(taskMapper.convertToDtos(anyList(), anyCollection())).thenAnswer(invocation ->
+                invocation.<List<Task>>getArgument(0).stream()
+                        .map(task -> TaskDtoResponse.builder().id(task.getId()).build())
+                        .toList());
+
+        SliceDtoResponse<TaskDtoResponse> tasks = taskService.getAllByCursor(null, null, null, null, null,
+                TaskSortKey.ID, Sort.Direction.ASC, 20);
+
+        assertEquals(expectedTasksSize, tasks.getContent().size());
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL)
+    void getAllByCursorByUserDeniedByImplementorIdParam() {
+        final long anotherUserId = 3L;
+
+        assertThrowsExactly(AttemptingAccessOtherUserEntityException.class,
+                () -> taskService.getAllByCursor(anotherUserId, null, null, null, null,
+                        TaskSortKey.ID, Sort.Direction.ASC, 20));
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL)
+    void getAllSummariesByUserFilteredByImplementor() {
+        final long userId = 2L;
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
+
+        Slice<TaskSummaryDtoResponse> tasks = taskService.getAllSummaries(null, null, null, null, pageable,
+                CountMode.NONE, false);
+
+        assertThat(tasks.getContent()).hasSize(2)
+                .allSatisfy(task -> assertEquals(userId, task.getImplementorId()));
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL)
+    void getAllSummariesByUserDeniedByImplementorIdParam() {
+        final long anotherUserId = 3L;
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
+
+        assertThrowsExactly(AttemptingAccessOtherUserEntityException.class,
+                () -> taskService.getAllSummaries(anotherUserId, null, null, null, pageable, CountMode.EXACT, false));
     }
 
     @ParameterizedTest
@@ -100,7 +160,7 @@ public class TaskServiceImplSecurityTest {
     void getByAdmin(long id) {
         when(taskDao.findById(id))
                 .thenReturn(Optional.of(Task.builder().id(id).build()));
-        when(taskMapper.convertToDto(any(Task.class)))
+        when(taskMapper.convertToDto(any(Task.class), anyList()))
                 .thenReturn(TaskDtoResponse.builder().id(id).build());
 
         assertDoesNotThrow(() -> taskService.get(id));
@@ -114,7 +174,7 @@ public class TaskServiceImplSecurityTest {
         final long userId = 2L;
         when(taskDao.findById(userTaskId))
                 .thenReturn(Optional.of(Task.builder().build()));
-        when(taskMapper.convertToDto(any(Task.class)))
+        when(taskMapper.convertToDto(any(Task.class), anyList()))
                 .thenReturn(TaskDtoResponse.builder().id(userTaskId).implementorId(userId).build());
 
         assertDoesNotThrow(() -> taskService.get(userTaskId));
@@ -128,7 +188,7 @@ public class TaskServiceImplSecurityTest {
         final long anotherUserId = 4L;
         when(taskDao.findById(anotherUserTaskId))
                 .thenReturn(Optional.of(Task.builder().build()));
-        when(taskMapper.convertToDto(any(Task.class)))
+        when(taskMapper.convertToDto(any(Task.class), anyList()))
                 .thenReturn(TaskDtoResponse.builder().id(anotherUserTaskId).implementorId(anotherUserId).build());
 
         assertThrowsExactly(AttemptingAccessOtherUserEntityException.class, () -> taskService.get(anotherUserTaskId));
@@ -142,7 +202,7 @@ public class TaskServiceImplSecurityTest {
         when(taskDao.findById(id))
                 .thenReturn(Optional.of(Task.builder().build()));
         when(taskDao.save(any(Task.class))).thenReturn(Task.builder().id(id).build());
-        when(taskMapper.convertToDto(any(Task.class)))
+        when(taskMapper.convertToDto(any(Task.class), anyList()))
                 .thenReturn(TaskDtoResponse.builder().id(id).authorId(adminId).build());
 
         assertDoesNotThrow(() -> taskService.update(id, TaskStatus.COMPLETED));
@@ -154,13 +214,15 @@ public class TaskServiceImplSecurityTest {
     void updateByUserSuccessfully() {
         final long userTaskId = 1L;
         final long userId = 2L;
+        when(taskDao.existsByIdAndImplementorId(userTaskId, userId)).thenReturn(true);
         when(taskDao.findById(userTaskId))
                 .thenReturn(Optional.of(Task.builder().build()));
         when(taskDao.save(any(Task.class))).thenReturn(Task.builder().build());
-        when(taskMapper.convertToDto(any(Task.class)))
+        when(taskMapper.convertToDto(any(Task.class), anyList()))
                 .thenReturn(TaskDtoResponse.builder().id(userTaskId).implementorId(userId).build());
 
         assertDoesNotThrow(() -> taskService.update(userTaskId, TaskStatus.COMPLETED));
+        verify(taskDao, times(1)).findById(userTaskId);
     }
 
     @Test
@@ -168,13 +230,45 @@ public class TaskServiceImplSecurityTest {
     @DirtiesContext(methodMode = DirtiesContext.MethodMode.BEFORE_METHOD)
     void updateByUserDeniedByAnotherUserTask() {
         final long anotherUserTaskId = 3L;
-        final long anotherUserId = 4L;
-        when(taskDao.findById(anotherUserTaskId))
-                .thenReturn(Optional.of(Task.builder().build()));
-        when(taskMapper.convertToDto(any(Task.class)))
-                .thenReturn(TaskDtoResponse.builder().implementorId(anotherUserId).build());
+        final long userId = 2L;
+        when(taskDao.existsByIdAndImplementorId(anotherUserTaskId, userId)).thenReturn(false);
+        when(taskDao.existsById(anotherUserTaskId)).thenReturn(true);
 
         assertThrowsExactly(AttemptingAccessOtherUserEntityException.class,
                 () -> taskService.update(anotherUserTaskId, TaskStatus.COMPLETED));
+        verify(taskDao, never()).findById(anotherUserTaskId);
+    }
+
+    @Test
+    @WithUserDetails(value = ADMIN_EMAIL)
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void updateAllStatusByAdmin() {
+        List<Long> updated = taskService.updateAllStatus(null, null, null, null, List.of(1L, 2L, 3L),
+                TaskStatus.COMPLETED);
+
+        assertThat(updated).containsExactly(1L, 2L);
+    }
+
+    /**
+     * Tasks 2 and 3 belong to other implementors and are skipped instead of refused
+     */
+    @Test
+    @WithUserDetails(value = USER_EMAIL)
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void updateAllStatusByUserUpdatesOwnTasksOnly() {
+        List<Long> updated = taskService.updateAllStatus(null, null, null, null, List.of(1L, 2L, 3L, 10L),
+                TaskStatus.IN_PROCESS);
+
+        assertThat(updated).containsExactly(1L, 10L);
+    }
+
+    @Test
+    @WithUserDetails(value = USER_EMAIL)
+    void updateAllStatusByUserDeniedByImplementorIdParam() {
+        final long anotherUserId = 3L;
+
+        assertThrowsExactly(AttemptingAccessOtherUserEntityException.class,
+                () -> taskService.updateAllStatus(anotherUserId, null, null, null, null, TaskStatus.COMPLETED));
+        verify(criteriaDao, never()).updateStatus(any(), any(), any());
     }
 }
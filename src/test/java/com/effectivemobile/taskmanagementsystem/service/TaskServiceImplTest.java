@@ -5,20 +5,35 @@ import com.effectivemobile.taskmanagementsystem.dao.SearchCriteriaWithPagination
 import com.effectivemobile.taskmanagementsystem.dao.TaskDao;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoCreateRequest;
 import com.effectivemobile.taskmanagementsystem.dto.request.task.TaskDtoUpdateRequest;
+import com.effectivemobile.taskmanagementsystem.dto.response.SliceDtoResponse;
+import com.effectivemobile.taskmanagementsystem.dto.response.TaskBatchItemDtoResponse;
 import com.effectivemobile.taskmanagementsystem.dto.response.TaskDtoResponse;
+import com.effectivemobile.taskmanagementsystem.exception.BatchTooLargeException;
+import com.effectivemobile.taskmanagementsystem.exception.BulkFilterRequiredException;
 import com.effectivemobile.taskmanagementsystem.exception.EntityNotFoundException;
+import com.effectivemobile.taskmanagementsystem.exception.InvalidCursorException;
 import com.effectivemobile.taskmanagementsystem.mapper.CommentMapper;
 import com.effectivemobile.taskmanagementsystem.mapper.TaskMapper;
 import com.effectivemobile.taskmanagementsystem.model.Task;
+import com.effectivemobile.taskmanagementsystem.util.CountMode;
+import com.effectivemobile.taskmanagementsystem.util.ExportFormat;
+import com.effectivemobile.taskmanagementsystem.util.TaskCursor;
 import com.effectivemobile.taskmanagementsystem.util.TaskPriority;
+import com.effectivemobile.taskmanagementsystem.util.TaskSortKey;
 import com.effectivemobile.taskmanagementsystem.util.TaskStatus;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.context.annotation.Import;
@@ -30,13 +45,25 @@ import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -44,6 +71,7 @@ import static org.mockito.Mockito.verify;
 @DataJpaTest
 @Import({TaskServiceImpl.class, UserServiceImpl.class, TaskMapper.class, CommentMapper.class,
         SearchCriteriaWithPaginationTaskDaoImpl.class})
+@ImportAutoConfiguration({JacksonAutoConfiguration.class, ValidationAutoConfiguration.class})
 @Transactional(propagation = Propagation.NEVER)
 class TaskServiceImplTest {
     @Autowired
@@ -73,12 +101,12 @@ class TaskServiceImplTest {
                 TaskStatus status, TaskPriority priority, long expectedResultSize) {
         Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "id"));
 
-        Page<TaskDtoResponse> tasks = taskService.getAll(implementorId, authorId, status, priority,
-                pageable);
+        Page<TaskDtoResponse> tasks = (Page<TaskDtoResponse>) taskService.getAll(implementorId, authorId,
+                status, priority, pageable, CountMode.EXACT);
 
         assertEquals(expectedResultSize, tasks.getTotalElements());
         assertEquals(1, tasks.getTotalPages());
-        verify(criteriaDao, times(1)).findAll(any(), any());
+        verify(criteriaDao, times(1)).findAll(any(), any(), eq(CountMode.EXACT));
     }
 
     @Test
@@ -86,12 +114,91 @@ class TaskServiceImplTest {
         Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "id"));
         final long authorId = 1L;
 
-        Page<TaskDtoResponse> tasks = taskService.getAll(null, authorId, null, null,
-                pageable);
+        Page<TaskDtoResponse> tasks = (Page<TaskDtoResponse>) taskService.getAll(null, authorId, null, null,
+                pageable, CountMode.EXACT);
 
         assertEquals(10, tasks.getTotalElements());
         assertEquals(1, tasks.getTotalPages());
-        verify(criteriaDao, times(1)).findAll(any(), any());
+        verify(criteriaDao, times(1)).findAll(any(), any(), eq(CountMode.EXACT));
+    }
+
+    @ParameterizedTest
+    @EnumSource(TaskSortKey.class)
+    void getAllByCursorPassesThroughAllTasks(TaskSortKey sortKey) {
+        final int size = 4;
+        Set<Long> visited = new HashSet<>();
+        String cursor = null;
+        int slices = 0;
+        SliceDtoResponse<TaskDtoResponse> slice;
+        do {
+            slice = taskService.getAllByCursor(null, null, null, null, cursor, sortKey, Sort.Direction.DESC, size);
+            slice.getContent().forEach(task -> assertTrue(visited.add(task.getId())));
+            cursor = slice.getNextCursor();
+            slices++;
+        } while (slice.isHasNext());
+
+        assertEquals(10, visited.size());
+        assertEquals(3, slices);
+        assertNull(cursor);
+    }
+
+    @Test
+    void getAllByCursorNegativeWhenCursorIsMalformed() {
+        assertThrowsExactly(InvalidCursorException.class,
+                () -> taskService.getAllByCursor(null, null, null, null, "not-a-cursor",
+                        TaskSortKey.ID, Sort.Direction.ASC, 10));
+    }
+
+    @Test
+    void getAllByCursorNegativeWhenCursorHasNoValueOfSortKey() {
+        String cursor = new TaskCursor(TaskSortKey.STATUS, Sort.Direction.ASC, null, 3L).encode();
+
+        assertThrowsExactly(InvalidCursorException.class,
+                () -> taskService.getAllByCursor(null, null, null, null, cursor,
+                        TaskSortKey.STATUS, Sort.Direction.ASC, 10));
+    }
+
+    @Test
+    void getAllByCursorNegativeWhenCursorIssuedForAnotherSort() {
+        String cursor = taskService.getAllByCursor(null, null, null, null, null,
+                TaskSortKey.PRIORITY, Sort.Direction.ASC, 2).getNextCursor();
+
+        assertThrowsExactly(InvalidCursorException.class,
+                () -> taskService.getAllByCursor(null, null, null, null, cursor,
+                        TaskSortKey.STATUS, Sort.Direction.ASC, 2));
+        assertThrowsExactly(InvalidCursorException.class,
+                () -> taskService.getAllByCursor(null, null, null, null, cursor,
+                        TaskSortKey.PRIORITY, Sort.Direction.DESC, 2));
+    }
+
+    @Test
+    void exportNdjson() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskService.export(null, null, null, null, ExportFormat.NDJSON, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals(10, lines.size());
+        ObjectMapper mapper = new ObjectMapper();
+        for (int i = 0; i < lines.size(); i++) {
+            JsonNode task = mapper.readTree(lines.get(i));
+            assertEquals(i + 1, task.get("id").asLong());
+            assertEquals(1L, task.get("authorId").asLong());
+        }
+    }
+
+    @Test
+    void exportCsvWithCriteria() throws Exception {
+        final long implementorId = 2L;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        taskService.export(implementorId, null, null, null, ExportFormat.CSV, out);
+
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+        assertEquals("id,title,description,priority,status,authorId,implementorId", lines.get(0));
+        assertThat(lines.subList(1, lines.size())).hasSize(2)
+                .allSatisfy(line -> assertThat(line).endsWith(",1," + implementorId));
+        verify(criteriaDao, times(1)).streamAll(any(), anyInt());
     }
 
     @Test
@@ -115,6 +222,87 @@ class TaskServiceImplTest {
         verify(taskDao, times(1)).save(any());
     }
 
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void createAll() {
+        TaskDtoCreateRequest valid = TaskDtoCreateRequest.builder()
+                .title("title")
+                .description("description")
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.COMPLETED)
+                .authorId(1L)
+                .implementorId(2L)
+                .build();
+        TaskDtoCreateRequest unknownImplementor = TaskDtoCreateRequest.builder()
+                .title("title")
+                .description("description")
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.COMPLETED)
+                .authorId(1L)
+                .implementorId(11L)
+                .build();
+
+        List<TaskBatchItemDtoResponse> results = taskService.createAll(List.of(valid, unknownImplementor, valid));
+
+        assertThat(results).extracting(TaskBatchItemDtoResponse::getIndex).containsExactly(0, 1, 2);
+        assertThat(results.get(1).getId()).isNull();
+        assertThat(results.get(1).getError()).contains("11");
+        assertThat(List.of(results.get(0), results.get(2))).allSatisfy(result -> {
+            assertNull(result.getError());
+            assertThat(taskService.get(result.getId()))
+                    .usingRecursiveComparison()
+                    .ignoringFields("id", "comments")
+                    .isEqualTo(valid);
+        });
+        verify(userService, times(1)).getAllById(any());
+        verify(userService, times(0)).getById(anyLong());
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void createAllRejectsInvalidItemsOnly() {
+        TaskDtoCreateRequest valid = TaskDtoCreateRequest.builder()
+                .title("title")
+                .description("description")
+                .priority(TaskPriority.LOW)
+                .status(TaskStatus.COMPLETED)
+                .authorId(1L)
+                .implementorId(2L)
+                .build();
+        TaskDtoCreateRequest withoutPriority = TaskDtoCreateRequest.builder()
+                .title("title")
+                .description("description")
+                .status(TaskStatus.COMPLETED)
+                .authorId(1L)
+                .implementorId(2L)
+                .build();
+
+        List<TaskBatchItemDtoResponse> results = taskService.createAll(
+                Arrays.asList(valid, withoutPriority, null, valid));
+
+        assertThat(results).extracting(TaskBatchItemDtoResponse::getIndex).containsExactly(0, 1, 2, 3);
+        assertThat(results.get(1).getId()).isNull();
+        assertThat(results.get(1).getError()).startsWith("priority: ");
+        assertThat(results.get(2).getId()).isNull();
+        assertThat(results.get(2).getError()).isNotNull();
+        assertThat(List.of(results.get(0), results.get(3))).allSatisfy(result -> {
+            assertNull(result.getError());
+            assertThat(taskService.get(result.getId()).getPriority()).isEqualTo(TaskPriority.LOW);
+        });
+    }
+
+    @Test
+    void createAllNegativeWhenBatchIsTooLarge() {
+        TaskDtoCreateRequest dto = TaskDtoCreateRequest.builder()
+                .authorId(1L)
+                .implementorId(2L)
+                .build();
+
+        assertThrowsExactly(BatchTooLargeException.class,
+                () -> taskService.createAll(Collections.nCopies(1001, dto)));
+        verify(taskDao, times(0)).saveAll(any());
+    }
+
     @Test
     void creteNegativeWhenAuthorDoesNotExists() {
         long notExistingAuthorId = 11L;
@@ -214,6 +402,45 @@ class TaskServiceImplTest {
         verify(taskDao, times(1)).findById(notExistingId);
     }
 
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void updateAllStatusByFilter() {
+        List<Long> updated = taskService.updateAllStatus(null, null, TaskStatus.IN_PROCESS, TaskPriority.MIDDLE,
+                null, TaskStatus.COMPLETED);
+
+        assertThat(updated).containsExactly(2L, 5L, 8L);
+        assertThat(updated).allSatisfy(id ->
+                assertEquals(TaskStatus.COMPLETED, taskDao.findById(id).get().getStatus()));
+        verify(criteriaDao, times(1)).updateStatus(any(), any(), any());
+        verify(taskDao, times(0)).save(any());
+    }
+
+    @Test
+    @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
+    void updateAllStatusByIds() {
+        List<Long> updated = taskService.updateAllStatus(null, null, null, null, List.of(3L, 5L, 6L),
+                TaskStatus.COMPLETED);
+
+        assertThat(updated).containsExactly(5L);
+        assertEquals(TaskStatus.COMPLETED, taskDao.findById(5L).get().getStatus());
+    }
+
+    @Test
+    void updateAllStatusNegativeWithoutIdsAndFilter() {
+        assertThrowsExactly(BulkFilterRequiredException.class,
+                () -> taskService.updateAllStatus(null, null, null, null, null, TaskStatus.COMPLETED));
+        verify(criteriaDao, times(0)).updateStatus(any(), any(), any());
+    }
+
+    @Test
+    void updateAllStatusNegativeWhenIdsAreTooMany() {
+        List<Long> ids = Collections.nCopies(1001, 1L);
+
+        assertThrowsExactly(BatchTooLargeException.class,
+                () -> taskService.updateAllStatus(null, null, null, null, ids, TaskStatus.COMPLETED));
+        verify(criteriaDao, times(0)).updateStatus(any(), any(), any());
+    }
+
     @Test
     @DirtiesContext(methodMode = DirtiesContext.MethodMode.AFTER_METHOD)
     void deleteById() {
@@ -23,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -111,8 +112,11 @@ class UserServiceImplTest {
         String expectedEmail = "testUser@gmail.com";
 
         User user = userService.getCurrentAppUser();
+        User again = userService.getCurrentAppUser();
 
         assertEquals(expectedEmail, user.getEmail());
+        assertSame(user, again);
+        verify(userDao, times(1)).findByEmail(expectedEmail); //only by @WithUserDetails
     }
 
     @Test
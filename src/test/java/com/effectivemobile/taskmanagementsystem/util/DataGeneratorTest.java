@@ -0,0 +1,99 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import com.effectivemobile.taskmanagementsystem.config.DataGeneratorProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrowsExactly;
+
+@DisplayName("Генератор большого набора данных")
+@DataJpaTest
+@Transactional(propagation = Propagation.NEVER)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class DataGeneratorTest {
+    private static final int USERS = 200;
+
+    private static final int TASKS = 5000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void generateInsertsRequestedRowsWithSkewedDistributions() {
+        generator(42).generate();
+
+        assertEquals(USERS, count("select count(*) from users where email like 's42-%'"));
+        assertEquals(TASKS, count("select count(*) from tasks t join users u on u.id = t.author_id "
+                + "where u.email like 's42-%'"));
+        List<Integer> tasksPerImplementor = jdbcTemplate.queryForList("select count(*) from tasks t "
+                + "join users u on u.id = t.implementor_id where u.email like 's42-%' "
+                + "group by t.implementor_id order by count(*) desc", Integer.class);
+        assertThat(tasksPerImplementor.get(0))
+                .isGreaterThan(10 * tasksPerImplementor.get(tasksPerImplementor.size() / 2));
+        List<Integer> commentsPerTask = jdbcTemplate.queryForList("select count(c.id) from tasks t "
+                + "join users u on u.id = t.author_id left join comments c on c.task_id = t.id "
+                + "where u.email like 's42-%' group by t.id order by count(c.id) desc", Integer.class);
+        assertThat(commentsPerTask.get(0)).isGreaterThan(50);
+        assertThat(commentsPerTask.get(TASKS / 2)).isZero();
+    }
+
+    @Test
+    void generateIsDeterministicForSeedAndSkipsGeneratedSeed() {
+        generator(7).generate();
+        List<String> first = snapshot();
+        generator(7).generate();
+        assertEquals(first, snapshot());
+
+        jdbcTemplate.update("delete from comments where task_id in (select t.id from tasks t "
+                + "join users u on u.id = t.author_id where u.email like 's7-%')");
+        jdbcTemplate.update("delete from comments where author_id in (select id from users where email like 's7-%')");
+        jdbcTemplate.update("delete from tasks where author_id in (select id from users where email like 's7-%')");
+        jdbcTemplate.update("delete from users where email like 's7-%'");
+        generator(7).generate();
+
+        assertEquals(first, snapshot());
+    }
+
+    @Test
+    void generateFailsOnPartiallyGeneratedSeed() {
+        generator(9).generate();
+        jdbcTemplate.update("delete from comments where task_id = (select max(t.id) from tasks t "
+                + "join users u on u.id = t.author_id where u.email like 's9-%' and exists "
+                + "(select 1 from comments c where c.task_id = t.id))");
+
+        IllegalStateException thrown = assertThrowsExactly(IllegalStateException.class,
+                () -> generator(9).generate());
+        assertThat(thrown.getMessage()).contains("Seed 9 is partially generated");
+    }
+
+    private DataGenerator generator(long seed) {
+        return new DataGenerator(jdbcTemplate, new BCryptPasswordEncoder(4),
+                new DataGeneratorProperties(seed, USERS, TASKS, 1.1, 1.5, 2000, 300));
+    }
+
+    /**
+     * Generated tasks in id order as implementor, author, status, priority and number of comments
+     */
+    private List<String> snapshot() {
+        return jdbcTemplate.queryForList("select concat(i.email, ' ', a.email, ' ', t.status, ' ', t.priority, ' ', "
+                + "(select count(*) from comments c where c.task_id = t.id)) from tasks t "
+                + "join users i on i.id = t.implementor_id join users a on a.id = t.author_id "
+                + "where a.email like 's7-%' order by t.id", String.class);
+    }
+
+    private int count(String query) {
+        Integer count = jdbcTemplate.queryForObject(query, Integer.class);
+        return count == null ? 0 : count;
+    }
+}
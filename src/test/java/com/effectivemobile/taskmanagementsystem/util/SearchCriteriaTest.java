@@ -0,0 +1,37 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Критерий поиска заданий приводит значение к типу атрибута")
+class SearchCriteriaTest {
+    @Test
+    void convertsValueToTypeOfAttribute() {
+        assertThat(new SearchCriteria(TaskSearchAttribute.AUTHOR, SearchOperation.EQUAL, 1).getValue())
+                .isEqualTo(1L);
+        assertThat(new SearchCriteria(TaskSearchAttribute.ID, SearchOperation.GREATER_OR_EQUAL, "10").getValue())
+                .isEqualTo(10L);
+        assertThat(new SearchCriteria(TaskSearchAttribute.STATUS, SearchOperation.EQUAL, "IN_STAY").getValue())
+                .isEqualTo(TaskStatus.IN_STAY);
+    }
+
+    @Test
+    void rejectsValueOfOtherType() {
+        assertThatThrownBy(() -> new SearchCriteria(TaskSearchAttribute.IMPLEMENTOR, SearchOperation.EQUAL, "two"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SearchCriteria(TaskSearchAttribute.PRIORITY, SearchOperation.EQUAL, "URGENT"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SearchCriteria(TaskSearchAttribute.STATUS, SearchOperation.EQUAL, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void rejectsRangeOfEnumAttribute() {
+        assertThatThrownBy(() -> new SearchCriteria(TaskSearchAttribute.PRIORITY, SearchOperation.LESS_OR_EQUAL,
+                TaskPriority.HIGH))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package com.effectivemobile.taskmanagementsystem.util;
+
+import com.effectivemobile.taskmanagementsystem.dao.UserDao;
+import com.effectivemobile.taskmanagementsystem.model.User;
+import com.effectivemobile.taskmanagementsystem.security.OffloadingPasswordEncoder;
+import com.effectivemobile.taskmanagementsystem.security.PasswordHashingExecutor;
+import com.effectivemobile.taskmanagementsystem.security.PasswordHashingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Миграция паролей пользователей в BCrypt")
+@DataJpaTest
+@Transactional(propagation = Propagation.NEVER)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class UserPasswordCryptographerTest {
+    private static final String RAW_PASSWORD = "password";
+
+    @Autowired
+    private UserDao userDao;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder = new BCryptPasswordEncoder(4);
+
+    private PasswordHashingExecutor executor;
+
+    private UserPasswordCryptographer cryptographer;
+
+    @BeforeEach
+    void setUp() {
+        PasswordHashingProperties properties = new PasswordHashingProperties(2, 1, 3);
+        executor = new PasswordHashingExecutor(properties);
+        cryptographer = new UserPasswordCryptographer(userDao,
+                new OffloadingPasswordEncoder(bCryptPasswordEncoder, executor), properties, transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.destroy();
+    }
+
+    @Test
+    void encodeUsersPasswordsHashesEveryPlainPasswordInBatches() {
+        cryptographer.encodeUsersPasswords();
+
+        List<User> users = userDao.findAll();
+        assertEquals(10, users.size());
+        assertThat(users).allSatisfy(user ->
+                assertTrue(bCryptPasswordEncoder.matches(RAW_PASSWORD, user.getPassword())));
+    }
+
+    @Test
+    void encodeUsersPasswordsIsNoOpOnSecondRun() {
+        cryptographer.encodeUsersPasswords();
+        Map<Long, String> hashes = passwordsById();
+
+        cryptographer.encodeUsersPasswords();
+
+        assertEquals(hashes, passwordsById());
+    }
+
+    @Test
+    void concurrentRunsHashEveryPasswordOnce() {
+        CompletableFuture<Void> first = CompletableFuture.runAsync(cryptographer::encodeUsersPasswords);
+        CompletableFuture<Void> second = CompletableFuture.runAsync(cryptographer::encodeUsersPasswords);
+        CompletableFuture.allOf(first, second).join();
+
+        assertThat(userDao.findAll()).allSatisfy(user ->
+                assertTrue(bCryptPasswordEncoder.matches(RAW_PASSWORD, user.getPassword())));
+    }
+
+    private Map<Long, String> passwordsById() {
+        return userDao.findAll().stream().collect(Collectors.toMap(User::getId, User::getPassword));
+    }
+}
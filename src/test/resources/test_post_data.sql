@@ -0,0 +1,5 @@
+--same as the post-data/2026-10-18--tasks-sequence changeset: blocks of 50 task ids after the test data
+create sequence if not exists tasks_seq increment by 50;
+alter sequence tasks_seq restart with (select coalesce(max(id), 0) + 1 from tasks);
+alter table tasks alter column id drop identity;
+alter table tasks alter column id set default next value for tasks_seq;
@@ -14,9 +14,9 @@ create table if not exists tasks
     author_id      bigint references users (id),
     implementor_id bigint references users (id),
     description    varchar(255) not null,
-    priority       varchar(255)
+    priority       varchar(255)   not null
         constraint tasks_priority_check check (priority IN ('HIGH', 'MIDDLE', 'LOW')),
-    status         varchar(255)
+    status         varchar(255)   not null
         constraint tasks_status_check check (status IN ('IN_STAY', 'IN_PROCESS', 'COMPLETED')),
     title          varchar(255)
 );
@@ -28,4 +28,15 @@ create table if not exists comments
     author_id bigint references users (id),
     task_id   bigint references tasks (id),
     text      varchar(255) not null
-);
\ No newline at end of file
+);
+
+create index if not exists tasks_implementor_status_priority_id_idx on tasks (implementor_id, status, priority, id);
+create index if not exists tasks_author_status_priority_id_idx on tasks (author_id, status, priority, id);
+create index if not exists tasks_status_priority_id_idx on tasks (status, priority, id);
+create index if not exists tasks_priority_id_idx on tasks (priority, id);
+create index if not exists tasks_status_id_idx on tasks (status, id);
+create index if not exists tasks_implementor_status_id_idx on tasks (implementor_id, status, id);
+create index if not exists tasks_implementor_priority_id_idx on tasks (implementor_id, priority, id);
+
+create index if not exists comments_task_id_id_idx on comments (task_id, id);
+create index if not exists comments_author_id_idx on comments (author_id);